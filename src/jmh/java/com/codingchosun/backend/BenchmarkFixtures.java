@@ -0,0 +1,80 @@
+package com.codingchosun.backend;
+
+import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.domain.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    벤치마크용 엔티티, db 없이 필드만 채운다
+ */
+public final class BenchmarkFixtures {
+
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 6, 18, 12, 0);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user(long userId) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setLoginId("login" + userId);
+        user.setNickname("nick" + userId);
+        user.setName("name" + userId);
+        user.setEmail("user" + userId + "@codingchosun.com");
+        user.setBirth(LocalDate.of(2000, 1, 1));
+        user.setState(StateCode.ACTIVE);
+        user.setScore(50);
+        return user;
+    }
+
+    public static List<User> users(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            users.add(user(i));
+        }
+        return users;
+    }
+
+    public static Post post(long postId, int hashtagSize) {
+        Post post = new Post();
+        post.setPostId(postId);
+        post.setTitle("모임 제목 " + postId);
+        post.setContent("모임 본문 ".repeat(40) + postId);
+        post.setCreatedAt(BASE_TIME);
+        post.setStartTime(BASE_TIME.plusDays(1));
+        post.setEndTime(BASE_TIME.plusDays(2));
+        post.setStateCode(StateCode.ACTIVE);
+        post.setViewCount(postId);
+        post.setLatitude(37.5665);
+        post.setLongitude(126.9780);
+        post.setUser(user(postId));
+
+        List<PostHash> postHashes = new ArrayList<>(hashtagSize);
+        for (long i = 1; i <= hashtagSize; i++) {
+            Hashtag hashtag = new Hashtag();
+            hashtag.setHashtagId(i);
+            hashtag.setHashtagName("#태그" + i);
+            PostHash postHash = new PostHash();
+            postHash.setId(postId * 100 + i);
+            postHash.setPost(post);
+            postHash.setHashtag(hashtag);
+            postHashes.add(postHash);
+        }
+        post.setPostHashes(postHashes);
+        return post;
+    }
+
+    public static Comment comment(long commentId, Post post) {
+        Comment comment = new Comment();
+        comment.setCommentId(commentId);
+        comment.setContent("댓글 " + commentId);
+        comment.setCreatedAt(BASE_TIME);
+        comment.setUser(user(commentId));
+        comment.setPost(post);
+        return comment;
+    }
+}
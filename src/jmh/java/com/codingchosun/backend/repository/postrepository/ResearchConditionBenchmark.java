@@ -0,0 +1,51 @@
+package com.codingchosun.backend.repository.postrepository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.codingchosun.backend.domain.QHashtag.hashtag;
+import static com.codingchosun.backend.domain.QPost.post;
+import static com.codingchosun.backend.domain.QPostHash.postHash;
+
+/*
+    검색 조건 만들기 + jpql 문자열로 바꾸기 (db 실행 전까지)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResearchConditionBenchmark {
+
+    @Param({"1", "5"})
+    private int termSize;
+
+    private List<String> titleQuery;
+    private List<String> hashQuery;
+
+    @Setup
+    public void setUp() {
+        titleQuery = IntStream.rangeClosed(1, termSize).mapToObj(i -> "제목" + i).toList();
+        hashQuery = IntStream.rangeClosed(1, termSize).mapToObj(i -> "#태그" + i).toList();
+    }
+
+    @Benchmark
+    public BooleanBuilder buildCondition() {
+        return DataJpaPostRepositoryImpl.researchCondition(titleQuery, hashQuery);
+    }
+
+    @Benchmark
+    public String buildJpql() {
+        BooleanBuilder builder = DataJpaPostRepositoryImpl.researchCondition(titleQuery, hashQuery);
+        return new JPAQuery<>().select(post).from(post)
+                .innerJoin(postHash).on(post.postId.eq(postHash.post.postId))
+                .innerJoin(postHash.hashtag, hashtag)
+                .where(builder)
+                .distinct()
+                .orderBy(post.createdAt.desc())
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.codingchosun.backend.response;
+
+import com.codingchosun.backend.BenchmarkFixtures;
+import com.codingchosun.backend.service.PostService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/*
+    비로그인 피드 json 직렬화, 애플리케이션과 같은 snake_case 설정
+    blackbird=false는 모듈 없이 리플렉션으로 직렬화했을 때 비교용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"true", "false"})
+    private boolean blackbird;
+
+    private ObjectMapper objectMapper;
+    private NoLoginPostsHashtagsResponse feed;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (blackbird) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+
+        List<NoLoginPostsResponse> posts = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(postId -> BenchmarkFixtures.post(postId, 3))
+                .map(post -> NoLoginPostsResponse.builder()
+                        .id(post.getPostId())
+                        .title(post.getTitle())
+                        .excerpt(PostService.excerpt(post.getContent()))
+                        .path("3f2b8c1e-7d4a-4b6e-9c0f-1a2b3c4d5e6f.png")
+                        .startTime(post.getStartTime())
+                        .build())
+                .toList();
+        List<HashtagDto> hashtags = LongStream.rangeClosed(1, 5)
+                .mapToObj(hashtagId -> new HashtagDto(hashtagId, "#태그" + hashtagId))
+                .toList();
+        feed = NoLoginPostsHashtagsResponse.builder()
+                .noLoginPostsResponses(PageResponse.of(new PageImpl<>(posts, PageRequest.of(0, PAGE_SIZE), 200)))
+                .hashtagDtoList(hashtags)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] serializeFeed() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(feed);
+    }
+}
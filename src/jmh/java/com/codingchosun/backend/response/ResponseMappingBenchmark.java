@@ -0,0 +1,44 @@
+package com.codingchosun.backend.response;
+
+import com.codingchosun.backend.BenchmarkFixtures;
+import com.codingchosun.backend.domain.Comment;
+import com.codingchosun.backend.domain.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/*
+    글 상세 응답 만들기 (엔티티 -> dto)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private static final int COMMENT_SIZE = 10;
+
+    private Post post;
+    private List<Comment> comments;
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.post(1L, 5);
+        comments = LongStream.rangeClosed(1, COMMENT_SIZE)
+                .mapToObj(commentId -> BenchmarkFixtures.comment(commentId, post))
+                .toList();
+    }
+
+    @Benchmark
+    public PostResponse postResponse() {
+        return new PostResponse(post);
+    }
+
+    @Benchmark
+    public List<CommentResponse> commentResponses() {
+        return comments.stream()
+                .map(CommentResponse::new)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.codingchosun.backend.response;
+
+import com.codingchosun.backend.BenchmarkFixtures;
+import com.codingchosun.backend.domain.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+    모임 종료 시 참가자끼리 평가 쌍 만들기, 참가자 수의 제곱으로 늘어난다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserPairDtoBenchmark {
+
+    @Param({"5", "20", "50"})
+    private int participantSize;
+
+    private List<User> participants;
+
+    @Setup
+    public void setUp() {
+        participants = BenchmarkFixtures.users(participantSize);
+    }
+
+    @Benchmark
+    public List<UserPairDto> makeUserPairList() {
+        return UserPairDto.makeUserPairList(participants);
+    }
+}
@@ -0,0 +1,33 @@
+package com.codingchosun.backend.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+    목록마다 글 수만큼 불리는 PostService 유틸
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostServiceBenchmark {
+
+    private String imagePath;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        imagePath = "/home/ubuntu/images/2024/06/18/3f2b8c1e-7d4a-4b6e-9c0f-1a2b3c4d5e6f.png";
+        content = "모임 본문 ".repeat(100);
+    }
+
+    @Benchmark
+    public String splitImagePath() {
+        return PostService.splitImagePath(imagePath);
+    }
+
+    @Benchmark
+    public String excerpt() {
+        return PostService.excerpt(content);
+    }
+}
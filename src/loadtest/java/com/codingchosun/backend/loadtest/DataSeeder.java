@@ -0,0 +1,245 @@
+package com.codingchosun.backend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+    부하 테스트 데이터를 jdbc batch로 넣는다
+    id를 직접 지정해서 seed가 같으면 항상 같은 데이터가 만들어진다
+    hashtag_stat도 넣은 데이터로 계산해서 같이 넣는다 (인기 해시태그, 피드에서 사용)
+ */
+public class DataSeeder {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSeeder.class);
+    private static final int BATCH_SIZE = 1_000;
+    private static final double ACTIVE_RATIO = 0.9;
+    private static final double LOCATION_RATIO = 0.7;
+    private static final List<String> TITLE_WORDS = List.of(
+            "보드게임", "등산", "러닝", "독서", "스터디", "맛집", "카페", "영화", "전시", "사진",
+            "코딩", "요리", "축구", "농구", "볼링", "클라이밍", "여행", "캠핑", "공연", "산책");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestConfig config;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    public DataSeeder(DataSource dataSource, LoadTestConfig config) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.config = config;
+        this.random = new Random(config.getSeed());
+    }
+
+    public SeededData seed(String encodedPassword, boolean mySql) {
+        long started = System.currentTimeMillis();
+
+        List<String> loginIds = insertUsers(encodedPassword);
+        List<String> hashtagNames = insertHashtags();
+        long[] followerCounts = insertUserHashes();
+        List<Long> activePostIds = new ArrayList<>();
+        long[] activePostCounts = insertPosts(activePostIds);
+        insertHashtagStats(activePostCounts, followerCounts);
+        insertParticipants();
+        insertComments();
+        insertImages();
+        if (!mySql) {
+            restartH2Identities();
+        }
+
+        log.warn("seeded users={}, hashtags={}, posts={} (active {}), comments={}, images={} in {}ms",
+                config.getUsers(), config.getHashtags(), config.getPosts(), activePostIds.size(),
+                (long) config.getPosts() * config.getCommentsPerPost(), (long) config.getPosts() * config.getImagesPerPost(),
+                System.currentTimeMillis() - started);
+        return new SeededData(loginIds, hashtagNames, TITLE_WORDS, activePostIds);
+    }
+
+    private List<String> insertUsers(String encodedPassword) {
+        List<String> loginIds = new ArrayList<>(config.getUsers());
+        List<Object[]> rows = new ArrayList<>();
+        for (long userId = 1; userId <= config.getUsers(); userId++) {
+            String loginId = "loaduser" + userId;
+            loginIds.add(loginId);
+            rows.add(new Object[]{userId, loginId, encodedPassword, "부하" + userId, loginId + "@codingchosun.com",
+                    Date.valueOf(LocalDate.of(1990 + (int) (userId % 15), 1, 1)), "부하 테스트 유저 " + userId,
+                    "부하" + userId, "NONE", "ACTIVE", 50});
+        }
+        batch("INSERT INTO user (user_id, login_id, password, name, email, birth, introduction, nickname, gender_code, state, score) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return loginIds;
+    }
+
+    private List<String> insertHashtags() {
+        List<String> names = new ArrayList<>(config.getHashtags());
+        List<Object[]> rows = new ArrayList<>();
+        for (long hashtagId = 1; hashtagId <= config.getHashtags(); hashtagId++) {
+            String name = "#" + TITLE_WORDS.get((int) (hashtagId % TITLE_WORDS.size())) + hashtagId;
+            names.add(name);
+            rows.add(new Object[]{hashtagId, name});
+        }
+        batch("INSERT INTO hashtag (hashtag_id, hashtag_name) VALUES (?, ?)", rows);
+        return names;
+    }
+
+    private long[] insertUserHashes() {
+        long[] followerCounts = new long[config.getHashtags() + 1];
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        for (long userId = 1; userId <= config.getUsers(); userId++) {
+            for (int hashtagId : pickDistinct(config.getHashtags(), config.getHashtagsPerUser())) {
+                rows.add(new Object[]{id++, userId, (long) hashtagId});
+                followerCounts[hashtagId]++;
+            }
+        }
+        batch("INSERT INTO user_hash (id, user_id, hashtag_id) VALUES (?, ?, ?)", rows);
+        return followerCounts;
+    }
+
+    private long[] insertPosts(List<Long> activePostIds) {
+        long[] activePostCounts = new long[config.getHashtags() + 1];
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> postHashes = new ArrayList<>();
+        long postHashId = 1;
+        for (long postId = 1; postId <= config.getPosts(); postId++) {
+            boolean active = random.nextDouble() < ACTIVE_RATIO;
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(60 * 24 * 30));
+            LocalDateTime startTime = active
+                    ? now.plusHours(1 + random.nextInt(24 * 30))
+                    : createdAt.plusHours(1);
+            boolean located = random.nextDouble() < LOCATION_RATIO;
+            String word = TITLE_WORDS.get(random.nextInt(TITLE_WORDS.size()));
+            posts.add(new Object[]{postId, word + " 같이 하실 분 " + postId, content(word),
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(startTime), Timestamp.valueOf(startTime.plusDays(1)),
+                    active ? "ACTIVE" : "INACTIVE", (long) random.nextInt(500),
+                    located ? 37.45 + random.nextDouble() * 0.2 : null,
+                    located ? 126.85 + random.nextDouble() * 0.3 : null,
+                    1L + random.nextInt(config.getUsers())});
+            if (active) {
+                activePostIds.add(postId);
+            }
+            for (int hashtagId : pickDistinct(config.getHashtags(), config.getHashtagsPerPost())) {
+                postHashes.add(new Object[]{postHashId++, postId, (long) hashtagId});
+                if (active) {
+                    activePostCounts[hashtagId]++;
+                }
+            }
+        }
+        batch("INSERT INTO post (post_id, title, content, created_at, start_time, end_time, state_code, view_count, latitude, longitude, user_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", posts);
+        batch("INSERT INTO post_hash (id, post_id, hashtag_id) VALUES (?, ?, ?)", postHashes);
+        return activePostCounts;
+    }
+
+    private void insertHashtagStats(long[] activePostCounts, long[] followerCounts) {
+        List<Object[]> rows = new ArrayList<>();
+        for (long hashtagId = 1; hashtagId <= config.getHashtags(); hashtagId++) {
+            rows.add(new Object[]{hashtagId, activePostCounts[(int) hashtagId], followerCounts[(int) hashtagId]});
+        }
+        batch("INSERT INTO hashtag_stat (hashtag_id, active_post_count, follower_count) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertParticipants() {
+        List<Object[]> rows = new ArrayList<>();
+        long id = 1;
+        for (long postId = 1; postId <= config.getPosts(); postId++) {
+            for (int userId : pickDistinct(config.getUsers(), config.getParticipantsPerPost())) {
+                rows.add(new Object[]{id++, postId, (long) userId});
+            }
+        }
+        batch("INSERT INTO post_user (post_user_id, post_id, user_id) VALUES (?, ?, ?)", rows);
+    }
+
+    private void insertComments() {
+        List<Object[]> rows = new ArrayList<>();
+        long commentId = 1;
+        for (long postId = 1; postId <= config.getPosts(); postId++) {
+            for (int i = 0; i < config.getCommentsPerPost(); i++) {
+                rows.add(new Object[]{commentId, "댓글 " + commentId, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24))),
+                        postId, 1L + random.nextInt(config.getUsers())});
+                commentId++;
+            }
+        }
+        batch("INSERT INTO comment (comment_id, content, created_at, post_id, user_id) VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private void insertImages() {
+        List<Object[]> rows = new ArrayList<>();
+        long imageId = 1;
+        for (long postId = 1; postId <= config.getPosts(); postId++) {
+            for (int i = 0; i < config.getImagesPerPost(); i++) {
+                rows.add(new Object[]{imageId, postId, "none",
+                        "/images/" + new UUID(config.getSeed(), imageId) + ".png"});
+                imageId++;
+            }
+        }
+        batch("INSERT INTO image (image_id, post_id, name, url) VALUES (?, ?, ?, ?)", rows);
+    }
+
+    //h2는 id를 직접 넣어도 identity 값이 올라가지 않아서 앱이 insert할 때 겹친다
+    private void restartH2Identities() {
+        Map<String, String> identities = new LinkedHashMap<>();
+        identities.put("user", "user_id");
+        identities.put("hashtag", "hashtag_id");
+        identities.put("user_hash", "id");
+        identities.put("post", "post_id");
+        identities.put("post_hash", "id");
+        identities.put("post_user", "post_user_id");
+        identities.put("comment", "comment_id");
+        identities.put("image", "image_id");
+        identities.forEach((table, column) -> {
+            Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table, Long.class);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + (max + 1));
+        });
+    }
+
+    private String content(String word) {
+        StringBuilder content = new StringBuilder();
+        int sentences = 2 + random.nextInt(7);     //post.content는 varchar(255)
+        for (int i = 0; i < sentences; i++) {
+            content.append(word).append(" 좋아하시는 분들 편하게 오세요. ");
+        }
+        return content.toString();
+    }
+
+    //1..bound 중 size개를 중복 없이
+    private int[] pickDistinct(int bound, int size) {
+        int count = Math.min(bound, size);
+        Set<Integer> picked = new LinkedHashSet<>();
+        while (picked.size() < count) {
+            picked.add(1 + random.nextInt(bound));
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+
+    //부하 드라이버가 요청을 만들 때 쓰는 값
+    public static class SeededData {
+        private final List<String> loginIds;
+        private final List<String> hashtagNames;
+        private final List<String> titleWords;
+        private final List<Long> activePostIds;
+
+        public SeededData(List<String> loginIds, List<String> hashtagNames, List<String> titleWords, List<Long> activePostIds) {
+            this.loginIds = List.copyOf(loginIds);
+            this.hashtagNames = List.copyOf(hashtagNames);
+            this.titleWords = List.copyOf(titleWords);
+            this.activePostIds = List.copyOf(activePostIds);
+        }
+
+        public List<String> getLoginIds() { return loginIds; }
+        public List<String> getHashtagNames() { return hashtagNames; }
+        public List<String> getTitleWords() { return titleWords; }
+        public List<Long> getActivePostIds() { return activePostIds; }
+    }
+}
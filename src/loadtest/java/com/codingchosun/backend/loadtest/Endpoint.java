@@ -0,0 +1,38 @@
+package com.codingchosun.backend.loadtest;
+
+import java.util.Arrays;
+
+/*
+    부하 테스트에서 호출하는 엔드포인트, key는 loadtest.mix에 쓰는 이름
+ */
+public enum Endpoint {
+    FEED("feed", "GET /posts"),
+    LOGIN_FEED("loginFeed", "GET /posts/login"),
+    RESEARCH("research", "GET /posts/research"),
+    DETAIL("detail", "GET /posts/{postId}"),
+    COMMENT("comment", "POST /posts/{postId}/comments"),
+    JOIN("join", "POST /posts/{postId}/participant");
+
+    private final String key;
+    private final String label;
+
+    Endpoint(String key, String label) {
+        this.key = key;
+        this.label = label;
+    }
+
+    public static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("모르는 엔드포인트: " + key));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
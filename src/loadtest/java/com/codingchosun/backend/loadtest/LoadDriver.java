@@ -0,0 +1,277 @@
+package com.codingchosun.backend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+    가상 유저(스레드) threads개가 쉬지 않고 loadtest.mix 비율로 요청을 보낸다 (closed model)
+    유저마다 로그인 세션(쿠키)과 ETag를 따로 들고 있어서 브라우저처럼 304도 받는다
+    warmup 동안의 기록은 버리고 duration 동안만 측정한다
+ */
+public class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int MAX_ETAG_SIZE = 1_000;
+    private static final int FEED_PAGES = 5;
+    private static final int PAGE_SIZE = 10;
+
+    private final String baseUrl;
+    private final LoadTestConfig config;
+    private final DataSeeder.SeededData data;
+    private final String password;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final Endpoint[] weightedEndpoints;
+    private volatile boolean running = true;
+
+    public LoadDriver(String baseUrl, LoadTestConfig config, DataSeeder.SeededData data, String password) {
+        this.baseUrl = baseUrl;
+        this.config = config;
+        this.data = data;
+        this.password = password;
+        List<Endpoint> weighted = new ArrayList<>();
+        config.getMix().forEach((endpoint, weight) -> {
+            stats.put(endpoint, new EndpointStats());
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        this.weightedEndpoints = weighted.toArray(Endpoint[]::new);
+    }
+
+    public List<EndpointResult> run() throws InterruptedException {
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < config.getThreads(); i++) {
+            VirtualUser virtualUser = new VirtualUser(data.getLoginIds().get(i % data.getLoginIds().size()),
+                    new Random(config.getSeed() + i));
+            virtualUser.login();
+            virtualUsers.add(virtualUser);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        virtualUsers.forEach(executor::submit);
+
+        log.warn("warmup {}s", config.getWarmupSeconds());
+        TimeUnit.SECONDS.sleep(config.getWarmupSeconds());
+        stats.values().forEach(EndpointStats::reset);
+
+        log.warn("measuring {}s", config.getDurationSeconds());
+        long started = System.nanoTime();
+        TimeUnit.SECONDS.sleep(config.getDurationSeconds());
+        List<EndpointResult> results = new ArrayList<>();
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+        stats.forEach((endpoint, endpointStats) -> results.add(endpointStats.snapshot(endpoint, elapsedSeconds)));
+
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private class VirtualUser implements Runnable {
+
+        private final String loginId;
+        private final Random random;
+        private final HttpClient client;
+        private final Set<Long> joinedPostIds = new HashSet<>();
+        //최근에 받은 ETag, 오래된 것부터 지운다
+        private final Map<String, String> etags = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_ETAG_SIZE;
+            }
+        };
+
+        VirtualUser(String loginId, Random random) {
+            this.loginId = loginId;
+            this.random = random;
+            this.client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+        }
+
+        void login() {
+            String form = "loginId=" + encode(loginId) + "&password=" + encode(password);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/x-www-form-urlencoded")
+                    .POST(HttpRequest.BodyPublishers.ofString(form))
+                    .build();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException(loginId + " 로그인 실패: " + response.statusCode());
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(loginId + " 로그인 실패", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+                HttpRequest request = buildRequest(endpoint);
+                EndpointStats endpointStats = stats.get(endpoint);
+                long started = System.nanoTime();
+                try {
+                    HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    endpointStats.record(System.nanoTime() - started, response.statusCode());
+                    response.headers().firstValue("ETag")
+                            .ifPresent(etag -> etags.put(request.uri().toString(), etag));
+                } catch (IOException e) {
+                    endpointStats.record(System.nanoTime() - started, 599);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private HttpRequest buildRequest(Endpoint endpoint) {
+            return switch (endpoint) {
+                case FEED -> conditionalGet("/posts?page=" + (1 + random.nextInt(FEED_PAGES)) + "&size=" + PAGE_SIZE);
+                case LOGIN_FEED -> get("/posts/login?page=" + (1 + random.nextInt(FEED_PAGES)) + "&size=" + PAGE_SIZE).build();
+                case RESEARCH -> get("/posts/research?researchQuery=" + encode(researchQuery()) + "&page=1&size=" + PAGE_SIZE).build();
+                case DETAIL -> conditionalGet("/posts/" + popularPostId());
+                case COMMENT -> HttpRequest.newBuilder(URI.create(baseUrl + "/posts/" + popularPostId() + "/comments"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"contents\":\"부하 테스트 댓글 " + random.nextInt(1_000_000) + "\"}"))
+                        .build();
+                case JOIN -> HttpRequest.newBuilder(URI.create(baseUrl + "/posts/" + notJoinedPostId() + "/participant"))
+                        .timeout(REQUEST_TIMEOUT)
+                        .POST(HttpRequest.BodyPublishers.noBody())
+                        .build();
+            };
+        }
+
+        private HttpRequest conditionalGet(String path) {
+            HttpRequest.Builder builder = get(path);
+            String etag = etags.get(baseUrl + path);
+            if (etag != null) {
+                builder.header("If-None-Match", etag);
+            }
+            return builder.build();
+        }
+
+        private HttpRequest.Builder get(String path) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET();
+        }
+
+        //제목 단어, 해시태그, 둘 다 중 하나
+        private String researchQuery() {
+            String word = data.getTitleWords().get(random.nextInt(data.getTitleWords().size()));
+            String hashtag = data.getHashtagNames().get(random.nextInt(data.getHashtagNames().size()));
+            return switch (random.nextInt(3)) {
+                case 0 -> word;
+                case 1 -> hashtag;
+                default -> word + " " + hashtag;
+            };
+        }
+
+        //앞쪽 글에 요청이 몰리게 (인기글 흉내)
+        private long popularPostId() {
+            List<Long> postIds = data.getActivePostIds();
+            return postIds.get((int) (Math.pow(random.nextDouble(), 3) * postIds.size()));
+        }
+
+        private long notJoinedPostId() {
+            List<Long> postIds = data.getActivePostIds();
+            long postId = postIds.get(random.nextInt(postIds.size()));
+            for (int i = 0; i < 10 && joinedPostIds.contains(postId); i++) {
+                postId = postIds.get(random.nextInt(postIds.size()));
+            }
+            joinedPostIds.add(postId);
+            return postId;
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    //응답 시간은 마이크로초로 기록
+    private static class EndpointStats {
+        private final Recorder recorder = new Recorder(3);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+
+        void record(long elapsedNanos, int status) {
+            recorder.recordValue(Math.max(1, elapsedNanos / 1_000));
+            if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            } else {
+                success.increment();
+            }
+        }
+
+        void reset() {
+            recorder.reset();
+            success.reset();
+            clientErrors.reset();
+            serverErrors.reset();
+        }
+
+        EndpointResult snapshot(Endpoint endpoint, double elapsedSeconds) {
+            return new EndpointResult(endpoint, recorder.getIntervalHistogram(), success.sum(),
+                    clientErrors.sum(), serverErrors.sum(), elapsedSeconds);
+        }
+    }
+
+    public static class EndpointResult {
+        private final Endpoint endpoint;
+        private final Histogram histogram;
+        private final long success;
+        private final long clientErrors;
+        private final long serverErrors;
+        private final double elapsedSeconds;
+
+        EndpointResult(Endpoint endpoint, Histogram histogram, long success, long clientErrors, long serverErrors,
+                       double elapsedSeconds) {
+            this.endpoint = endpoint;
+            this.histogram = histogram;
+            this.success = success;
+            this.clientErrors = clientErrors;
+            this.serverErrors = serverErrors;
+            this.elapsedSeconds = elapsedSeconds;
+        }
+
+        public Endpoint getEndpoint() { return endpoint; }
+        public long getCount() { return histogram.getTotalCount(); }
+        public double getThroughput() { return histogram.getTotalCount() / elapsedSeconds; }
+        public double percentileMillis(double percentile) { return histogram.getValueAtPercentile(percentile) / 1_000.0; }
+        public double getMaxMillis() { return histogram.getMaxValue() / 1_000.0; }
+        public long getSuccess() { return success; }
+        public long getClientErrors() { return clientErrors; }
+        public long getServerErrors() { return serverErrors; }
+    }
+}
@@ -0,0 +1,107 @@
+package com.codingchosun.backend.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+    부하 테스트 설정, 시스템 프로퍼티 loadtest.* 로 바꾼다 (gradle에서는 -Ploadtest.users=500 처럼)
+    seed가 같으면 같은 데이터와 같은 요청 순서가 만들어진다
+ */
+public class LoadTestConfig {
+
+    //db: mysql(Testcontainers, docker가 없으면 h2로 대신) 또는 h2
+    private final String db;
+    private final long seed;
+
+    //데이터 양
+    private final int users;
+    private final int hashtags;
+    private final int posts;
+    private final int hashtagsPerPost;
+    private final int hashtagsPerUser;
+    private final int commentsPerPost;
+    private final int imagesPerPost;
+    private final int participantsPerPost;
+
+    //부하
+    private final int threads;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final Map<Endpoint, Integer> mix;
+
+    private final String reportDir;
+
+    private LoadTestConfig() {
+        db = property("db", "mysql");
+        seed = Long.parseLong(property("seed", "42"));
+        users = intProperty("users", 200);
+        hashtags = intProperty("hashtags", 100);
+        posts = intProperty("posts", 2000);
+        hashtagsPerPost = intProperty("hashtagsPerPost", 3);
+        hashtagsPerUser = intProperty("hashtagsPerUser", 3);
+        commentsPerPost = intProperty("commentsPerPost", 5);
+        imagesPerPost = intProperty("imagesPerPost", 1);
+        participantsPerPost = intProperty("participantsPerPost", 3);
+        threads = intProperty("threads", 16);
+        warmupSeconds = intProperty("warmup", 10);
+        durationSeconds = intProperty("duration", 30);
+        mix = parseMix(property("mix", "feed=30,loginFeed=15,research=15,detail=25,comment=10,join=5"));
+        reportDir = property("reportDir", "build/reports/loadtest");
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig();
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+
+    //예) feed=30,detail=25 -> 가중치, 빠진 엔드포인트는 호출하지 않는다
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix 형식이 잘못됨: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix에 호출할 엔드포인트가 없음");
+        }
+        return weights;
+    }
+
+    public String getDb() { return db; }
+    public long getSeed() { return seed; }
+    public int getUsers() { return users; }
+    public int getHashtags() { return hashtags; }
+    public int getPosts() { return posts; }
+    public int getHashtagsPerPost() { return hashtagsPerPost; }
+    public int getHashtagsPerUser() { return hashtagsPerUser; }
+    public int getCommentsPerPost() { return commentsPerPost; }
+    public int getImagesPerPost() { return imagesPerPost; }
+    public int getParticipantsPerPost() { return participantsPerPost; }
+    public int getThreads() { return threads; }
+    public int getWarmupSeconds() { return warmupSeconds; }
+    public int getDurationSeconds() { return durationSeconds; }
+    public Map<Endpoint, Integer> getMix() { return mix; }
+    public String getReportDir() { return reportDir; }
+
+    @Override
+    public String toString() {
+        return "db=" + db + ", seed=" + seed + ", users=" + users + ", hashtags=" + hashtags + ", posts=" + posts +
+                ", hashtagsPerPost=" + hashtagsPerPost + ", hashtagsPerUser=" + hashtagsPerUser +
+                ", commentsPerPost=" + commentsPerPost + ", imagesPerPost=" + imagesPerPost +
+                ", participantsPerPost=" + participantsPerPost + ", threads=" + threads +
+                ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s, mix=" + mix;
+    }
+}
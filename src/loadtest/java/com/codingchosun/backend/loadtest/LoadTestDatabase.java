@@ -0,0 +1,72 @@
+package com.codingchosun.backend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/*
+    부하 테스트용 db
+    mysql은 Testcontainers로 띄우고, docker가 없으면 h2(MySQL 모드)로 대신한다
+    h2 결과는 실제 운영 환경과 차이가 크므로 경향을 볼 때만 쓴다
+ */
+public class LoadTestDatabase implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDatabase.class);
+    private static final String MYSQL_IMAGE = "mysql:8.0";
+    private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1";
+
+    private final MySQLContainer<?> container;
+    private final String url;
+    private final String username;
+    private final String password;
+
+    private LoadTestDatabase(MySQLContainer<?> container, String url, String username, String password) {
+        this.container = container;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+    }
+
+    public static LoadTestDatabase start(String db) {
+        if ("mysql".equals(db)) {
+            if (DockerClientFactory.instance().isDockerAvailable()) {
+                MySQLContainer<?> container = new MySQLContainer<>(DockerImageName.parse(MYSQL_IMAGE))
+                        .withDatabaseName("codingchosun")
+                        .withUrlParam("rewriteBatchedStatements", "true")
+                        .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci");
+                container.start();
+                log.warn("mysql container started: {}", container.getJdbcUrl());
+                return new LoadTestDatabase(container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+            }
+            log.warn("docker를 찾지 못해 h2로 대신합니다");
+        } else if (!"h2".equals(db)) {
+            throw new IllegalArgumentException("loadtest.db는 mysql 또는 h2: " + db);
+        }
+        return new LoadTestDatabase(null, H2_URL, "sa", "");
+    }
+
+    public boolean isMySql() {
+        return container != null;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public void close() {
+        if (container != null) {
+            container.stop();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.codingchosun.backend.loadtest;
+
+import com.codingchosun.backend.BackendApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+    부하 테스트 순서
+    1. db를 띄우고 앱을 한번 실행해서 hibernate로 테이블을 만든 뒤 데이터를 넣고 종료
+    2. 앱을 다시 띄워서 (인메모리 인덱스, 캐시가 넣은 데이터로 로딩됨) 랜덤 포트로 요청
+    3. 엔드포인트별 결과를 출력하고 파일로 남김
+ */
+public class LoadTestMain {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestMain.class);
+    private static final String PASSWORD = "loadtest1234";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        log.warn("load test: {}", config);
+
+        try (LoadTestDatabase database = LoadTestDatabase.start(config.getDb())) {
+            DataSeeder.SeededData data;
+            try (ConfigurableApplicationContext context = startApplication(database, "create")) {
+                String encodedPassword = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+                data = new DataSeeder(context.getBean(DataSource.class), config).seed(encodedPassword, database.isMySql());
+            }
+
+            List<LoadDriver.EndpointResult> results;
+            try (ConfigurableApplicationContext context = startApplication(database, "none")) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                results = new LoadDriver("http://localhost:" + port, config, data, PASSWORD).run();
+            }
+
+            LoadTestReport report = new LoadTestReport(config, results);
+            System.out.println(report.toTable());
+            Path dir = report.write();
+            log.warn("report written to {}", dir.toAbsolutePath());
+        }
+    }
+
+    //명령행 인자로 넘겨서 application.properties보다 우선하게 한다
+    private static ConfigurableApplicationContext startApplication(LoadTestDatabase database, String ddlAuto) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + database.getUrl(),
+                "--spring.datasource.username=" + database.getUsername(),
+                "--spring.datasource.password=" + database.getPassword(),
+                "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.output.ansi.enabled=never",
+                "--logging.level.root=WARN",
+                "--server.port=0",
+                "--management.server.port=0"));
+        return new SpringApplicationBuilder(BackendApplication.class).run(args.toArray(String[]::new));
+    }
+}
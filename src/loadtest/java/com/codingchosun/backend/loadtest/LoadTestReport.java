@@ -0,0 +1,62 @@
+package com.codingchosun.backend.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/*
+    엔드포인트별 처리량, p50/p95/p99/max(ms), 4xx/5xx 개수
+    콘솔에 표로 찍고 reportDir에 summary.txt, summary.json으로 남긴다
+ */
+public class LoadTestReport {
+
+    private final LoadTestConfig config;
+    private final List<LoadDriver.EndpointResult> results;
+
+    public LoadTestReport(LoadTestConfig config, List<LoadDriver.EndpointResult> results) {
+        this.config = config;
+        this.results = results;
+    }
+
+    public String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(config).append('\n');
+        table.append(String.format(Locale.ROOT, "%-34s %9s %10s %9s %9s %9s %9s %7s %7s%n",
+                "endpoint", "count", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "4xx", "5xx"));
+        for (LoadDriver.EndpointResult result : results) {
+            table.append(String.format(Locale.ROOT, "%-34s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                    result.getEndpoint().getLabel(), result.getCount(), result.getThroughput(),
+                    result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99),
+                    result.getMaxMillis(), result.getClientErrors(), result.getServerErrors()));
+        }
+        double total = results.stream().mapToDouble(LoadDriver.EndpointResult::getThroughput).sum();
+        table.append(String.format(Locale.ROOT, "total %.1f req/s%n", total));
+        return table.toString();
+    }
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"config\": \"").append(config).append("\",\n  \"endpoints\": [\n");
+        for (int i = 0; i < results.size(); i++) {
+            LoadDriver.EndpointResult result = results.get(i);
+            json.append(String.format(Locale.ROOT,
+                    "    {\"endpoint\": \"%s\", \"count\": %d, \"throughput\": %.2f, \"p50\": %.3f, \"p95\": %.3f, " +
+                            "\"p99\": %.3f, \"max\": %.3f, \"clientErrors\": %d, \"serverErrors\": %d}",
+                    result.getEndpoint().getLabel(), result.getCount(), result.getThroughput(),
+                    result.percentileMillis(50), result.percentileMillis(95), result.percentileMillis(99),
+                    result.getMaxMillis(), result.getClientErrors(), result.getServerErrors()));
+            json.append(i < results.size() - 1 ? ",\n" : "\n");
+        }
+        return json.append("  ]\n}\n").toString();
+    }
+
+    public Path write() throws IOException {
+        Path dir = Path.of(config.getReportDir());
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("summary.txt"), toTable(), StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("summary.json"), toJson(), StandardCharsets.UTF_8);
+        return dir;
+    }
+}
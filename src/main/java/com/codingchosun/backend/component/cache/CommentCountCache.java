@@ -0,0 +1,61 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.codingchosun.backend.repository.commentrepository.DataJpaCommentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+*   포스트별 댓글 개수 캐시
+*   처음 조회할때만 count 쿼리를 날리고 이후에는 댓글 작성/삭제 시 값을 직접 올리고 내린다
+*   값은 커밋된 뒤에 바꾼다 (롤백된 댓글이 개수에 남지 않도록)
+*   count는 primary에서 한다 (replica에서 읽으면 방금 커밋된 댓글이 빠진 값으로 채워질 수 있음)
+*   다른 인스턴스에서 쓴 댓글은 반영되지 않으므로 일정 시간이 지나면 다시 count 해서 맞춘다
+*/
+@Component
+public class CommentCountCache {
+
+    private static final long MAX_POST_SIZE = 10_000;
+    private static final Duration RELOAD_AFTER = Duration.ofMinutes(10);
+
+    private final DataJpaCommentRepository dataJpaCommentRepository;
+    private final PrimaryReader primaryReader;
+    private final Cache<Long, AtomicLong> counts;
+
+    public CommentCountCache(DataJpaCommentRepository dataJpaCommentRepository, PrimaryReader primaryReader) {
+        this.dataJpaCommentRepository = dataJpaCommentRepository;
+        this.primaryReader = primaryReader;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(MAX_POST_SIZE)
+                .expireAfterWrite(RELOAD_AFTER)
+                .build();
+    }
+
+    public long getCount(Long postId) {
+        return counts.get(postId, id -> new AtomicLong(primaryReader.read(() -> dataJpaCommentRepository.countByPost_PostId(id)))).get();
+    }
+
+    //캐시에 없으면 다음 조회때 count 하므로 아무것도 안함
+    public void increase(Long postId) {
+        TransactionCallbacks.afterCommit(() -> {
+            AtomicLong count = counts.getIfPresent(postId);
+            if (count != null) {
+                count.incrementAndGet();
+            }
+        });
+    }
+
+    public void decrease(Long postId, int amount) {
+        TransactionCallbacks.afterCommit(() -> {
+            AtomicLong count = counts.getIfPresent(postId);
+            if (count != null) {
+                count.updateAndGet(c -> Math.max(0, c - amount));
+            }
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/*
+*   조건부 GET(ETag, Last-Modified)에 쓰는 변경 버전
+*   글, 피드, 프로필(ProfileChangedEvent)이 바뀌면 커밋 후에 새 버전을 준다 (커밋 전에 올리면 옛 데이터가 새 버전으로 캐시될 수 있다)
+*   버전은 전체에서 하나씩 증가하는 번호라 캐시에서 밀려났다가 다시 생겨도 예전 ETag와 겹치지 않고,
+*   서버가 재시작되면 epoch가 바뀌어 전부 새로 받는다
+*   버전은 인스턴스마다 따로라 다른 인스턴스에서 바뀐 내용은 모른다, 그래서 버전은 만든 지 VERSION_TTL이 지나면 새로 준다
+*   -> 다른 인스턴스에서 바뀐 글/피드/프로필에 304를 줄 수 있는 시간은 최대 VERSION_TTL
+*   글 응답과 댓글에는 작성자 닉네임이 들어가므로 닉네임이 바뀌면 모든 글 버전을 새로 준다
+*   컨트롤러는 버전을 먼저 읽고 데이터를 읽어야 한다
+*/
+@Component
+public class ContentVersions {
+
+    private static final long MAX_VERSION_SIZE = 100_000;
+    private static final Duration VERSION_TTL = Duration.ofMinutes(1);
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicReference<Stamp> feed = new AtomicReference<>(next());
+    private final Cache<Long, Stamp> posts = Caffeine.newBuilder()
+            .maximumSize(MAX_VERSION_SIZE)
+            .expireAfterWrite(VERSION_TTL)
+            .build();
+    private final Cache<String, Stamp> profiles = Caffeine.newBuilder()
+            .maximumSize(MAX_VERSION_SIZE)
+            .expireAfterWrite(VERSION_TTL)
+            .build();
+
+    public Stamp feed() {
+        Stamp stamp = feed.get();
+        if (System.currentTimeMillis() - stamp.issuedAt >= VERSION_TTL.toMillis()) {
+            feed.compareAndSet(stamp, next());
+            stamp = feed.get();
+        }
+        return stamp;
+    }
+
+    public Stamp post(Long postId) {
+        return posts.get(postId, id -> next());
+    }
+
+    public Stamp profile(String loginId) {
+        return profiles.get(loginId, id -> next());
+    }
+
+    public void feedChanged() {
+        TransactionCallbacks.afterCommit(() -> feed.set(next()));
+    }
+
+    public void postChanged(Long postId) {
+        TransactionCallbacks.afterCommit(() -> posts.put(postId, next()));
+    }
+
+    //이미 커밋 후에 불리므로 바로 올린다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void profileChanged(ProfileChangedEvent event) {
+        profiles.put(event.getLoginId(), next());
+        if (event.isNicknameChanged()) {
+            posts.invalidateAll();  //다음 조회때 새 버전을 받는다
+        }
+    }
+
+    private Stamp next() {
+        return new Stamp(epoch, sequence.incrementAndGet(), System.currentTimeMillis());
+    }
+
+    @Getter
+    public static class Stamp {
+        private final long version;
+        private final long lastModified;
+        private final String epoch;
+        private final long issuedAt;
+
+        private Stamp(String epoch, long version, long issuedAt) {
+            this.epoch = epoch;
+            this.version = version;
+            this.issuedAt = issuedAt;
+            //Last-Modified는 초 단위라 잘라서 보관
+            this.lastModified = issuedAt / 1000 * 1000;
+        }
+
+        public String etag(String prefix) {
+            return "\"" + prefix + "-" + epoch + "-" + version + "\"";
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/*
+*   비로그인 피드 응답을 직렬화된 json 그대로 잠깐 들고 있는다
+*   키에 피드 버전이 들어가므로 글이 바뀌면 새 키로 다시 만들고, 옛 키는 TTL로 사라진다
+*   새 버전의 피드는 primary에서 읽어서 채운다 (replica에서 읽으면 새 키에 옛 목록이 들어갈 수 있음)
+*   스프링이 쓰는 ObjectMapper로 직렬화해서 캐시를 안 탈 때와 같은 json이 나간다
+*/
+@Component
+public class FeedJsonCache {
+
+    private static final long MAX_FEED_SIZE = 500;
+    private static final Duration FEED_TTL = Duration.ofSeconds(10);
+
+    private final ObjectMapper objectMapper;
+    private final PrimaryReader primaryReader;
+    private final Cache<String, byte[]> feedCache;
+
+    public FeedJsonCache(ObjectMapper objectMapper, PrimaryReader primaryReader) {
+        this.objectMapper = objectMapper;
+        this.primaryReader = primaryReader;
+        this.feedCache = Caffeine.newBuilder()
+                .maximumSize(MAX_FEED_SIZE)
+                .expireAfterWrite(FEED_TTL)
+                .build();
+    }
+
+    public byte[] get(long feedVersion, Pageable pageable, Supplier<?> loader) {
+        String key = feedVersion + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+        return feedCache.get(key, k -> serialize(primaryReader.read(loader)));
+    }
+
+    private byte[] serialize(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("피드 응답 직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.codingchosun.backend.component.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+*   jdbc로 직접 바꾼 행은 hibernate 2차 캐시가 모르므로 여기서 지운다
+*   바로 한번 지우고, 커밋 전에 다른 트랜잭션이 옛 값을 다시 넣을 수 있으니 커밋 후에 한번 더 지운다
+*/
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictEntities(Class<?> entityClass, Collection<Long> ids) {
+        List<Long> targets = List.copyOf(ids);
+        runNowAndAfterCommit(() -> {
+            Cache cache = cache();
+            targets.forEach(id -> cache.evictEntityData(entityClass, id));
+        });
+    }
+
+    //role 예) com.codingchosun.backend.domain.Post.postHashes
+    public void evictCollections(String role, Collection<Long> ownerIds) {
+        List<Long> targets = List.copyOf(ownerIds);
+        runNowAndAfterCommit(() -> {
+            Cache cache = cache();
+            targets.forEach(ownerId -> cache.evictCollectionData(role, ownerId));
+        });
+    }
+
+    private Cache cache() {
+        return entityManagerFactory.getCache().unwrap(Cache.class);
+    }
+
+    private void runNowAndAfterCommit(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.domain.Template;
+import com.codingchosun.backend.repository.templaterepository.TemplateRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/*
+*   평가 템플릿 목록을 메모리에 들고 있는 저장소
+*   템플릿은 거의 바뀌지 않으므로 시작할때 읽어서 불변 스냅샷으로 만들고
+*   바뀌면 스냅샷 전체를 새로 만들어 참조만 바꾼다 (읽는 쪽은 락 없이 사용)
+*   템플릿을 수정하는 쪽은 refresh()를 호출, 다른 인스턴스 변경은 주기적으로 다시 읽어서 맞춘다
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateRegistry {
+
+    private final TemplateRepository templateRepository;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public synchronized void refresh() {
+        List<Template> templates = templateRepository.findAll();
+        snapshot = Snapshot.of(templates);
+        log.info("template registry loaded: {}", templates.size());
+    }
+
+    public Optional<TemplateEntry> findByContent(String content) {
+        return Optional.ofNullable(snapshot.byContent.get(content));
+    }
+
+    public Optional<TemplateEntry> findById(Long templateId) {
+        return Optional.ofNullable(snapshot.byId.get(templateId));
+    }
+
+    //templateId 순서의 템플릿 내용 목록
+    public List<String> getContents() {
+        return snapshot.contents;
+    }
+
+    @Getter
+    public static class TemplateEntry {
+        private final Long templateId;
+        private final String content;
+        private final int score;
+
+        private TemplateEntry(Template template) {
+            this.templateId = template.getTemplateId();
+            this.content = template.getContent();
+            this.score = template.getScore();
+        }
+    }
+
+    private static class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), List.of());
+
+        private final Map<String, TemplateEntry> byContent;
+        private final Map<Long, TemplateEntry> byId;
+        private final List<String> contents;
+
+        private Snapshot(Map<String, TemplateEntry> byContent, Map<Long, TemplateEntry> byId, List<String> contents) {
+            this.byContent = byContent;
+            this.byId = byId;
+            this.contents = contents;
+        }
+
+        private static Snapshot of(List<Template> templates) {
+            Map<String, TemplateEntry> byContent = new HashMap<>();
+            Map<Long, TemplateEntry> byId = new TreeMap<>();
+            for (Template template : templates) {
+                if (template.getContent() == null) {
+                    continue;
+                }
+                TemplateEntry entry = new TemplateEntry(template);
+                byContent.putIfAbsent(entry.getContent(), entry);
+                byId.put(entry.getTemplateId(), entry);
+            }
+            List<String> contents = byId.values().stream().map(TemplateEntry::getContent).toList();
+            return new Snapshot(Map.copyOf(byContent), Map.copyOf(byId), contents);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.repository.hashtagrepository.HashtagStatRepository;
+import com.codingchosun.backend.response.TrendingHashtagResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/*
+*   인기 해시태그 스냅샷
+*   hashtag_stat에서 ACTIVE post가 많은 순으로 MAX_SIZE개를 주기적으로 읽어서 불변 리스트로 들고 있는다
+*   요청마다 db를 읽지 않으므로 최대 갱신 주기만큼 늦게 반영된다
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingHashtagCache {
+
+    public static final int MAX_SIZE = 50;
+
+    private final HashtagStatRepository hashtagStatRepository;
+    private final ContentVersions contentVersions;
+    private volatile List<TrendingHashtagResponse> snapshot = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void refresh() {
+        snapshot = List.copyOf(hashtagStatRepository.findTrending(PageRequest.of(0, MAX_SIZE)));
+        log.info("trending hashtags loaded: {}", snapshot.size());
+        //비로그인 피드에 인기 해시태그가 들어가므로
+        contentVersions.feedChanged();
+    }
+
+    public List<TrendingHashtagResponse> getTop(int size) {
+        List<TrendingHashtagResponse> current = snapshot;
+        return current.subList(0, Math.min(size, current.size()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.codingchosun.backend.component.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/*
+*   post에 댓글, 참가자 변화가 생겼을때 발행하는 이벤트
+*   targetId는 댓글이면 commentId, 참가/탈퇴면 userId
+*/
+@Getter
+@ToString
+public class PostActivityEvent {
+    private final Long postId;
+    private final PostActivityType type;
+    private final Long userId;
+    private final Long targetId;
+    private final LocalDateTime occurredAt;
+
+    public PostActivityEvent(Long postId, PostActivityType type, Long userId, Long targetId) {
+        this.postId = postId;
+        this.type = type;
+        this.userId = userId;
+        this.targetId = targetId;
+        this.occurredAt = LocalDateTime.now();
+    }
+}
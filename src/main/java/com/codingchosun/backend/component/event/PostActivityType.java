@@ -0,0 +1,5 @@
+package com.codingchosun.backend.component.event;
+
+public enum PostActivityType {
+    COMMENT_CREATED, COMMENT_DELETED, PARTICIPANT_JOINED, PARTICIPANT_LEFT
+}
@@ -0,0 +1,231 @@
+package com.codingchosun.backend.component.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+*   post 단위 SSE 구독 관리
+*   발행하는 쪽은 구독자 버퍼에 넣기만 하고 바로 리턴, 실제 전송은 별도 스레드에서 구독자별로 순서대로 한다
+*   구독자 버퍼가 가득 차면(느린 클라이언트) 가장 오래된 이벤트를 버린다
+*   전송 한번이 SEND_TIMEOUT을 넘기면 구독을 끊고 전송 스레드를 interrupt 한다
+*   전송 스레드와 대기 큐는 고정 크기, 막힌 전송은 위 시간 초과와 컨테이너의 async write timeout으로 풀린다
+*   큐까지 가득 차면 새 스레드를 만들지 않고 이번 전송 예약을 버린다 (이벤트는 버퍼에 남아 다음 이벤트때 같이 보낸다)
+*/
+@Slf4j
+@Component
+public class PostEventBus {
+
+    private static final long EMITTER_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    private static final int SUBSCRIBER_BUFFER_SIZE = 32;
+    private static final int SENDER_THREAD_SIZE = 4;
+    private static final int SENDER_QUEUE_SIZE = 10_000;    //구독자마다 최대 하나씩 들어간다
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicLong eventSequence = new AtomicLong();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService watchdog;
+    private final long sendTimeoutMillis;
+
+    public PostEventBus() {
+        this(SEND_TIMEOUT);
+    }
+
+    PostEventBus(Duration sendTimeout) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(SENDER_THREAD_SIZE, SENDER_THREAD_SIZE,
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(SENDER_QUEUE_SIZE), runnable -> {
+            Thread thread = new Thread(runnable, "post-sse-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "post-sse-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+    }
+
+    public SseEmitter subscribe(Long postId) {
+        return subscribe(postId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    SseEmitter subscribe(Long postId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(postId, emitter);
+
+        subscribersByPost.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        //연결 직후 한번 보내야 프록시가 응답을 바로 흘려보냄
+        subscriber.offer(SseEmitter.event().name("connected").data(postId).build());
+        return emitter;
+    }
+
+    //커밋된 변경만 알리도록 트랜잭션이 끝난 뒤에 받는다
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(PostActivityEvent event) {
+        Set<Subscriber> subscribers = subscribersByPost.get(event.getPostId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> sseEvent = SseEmitter.event()
+                .id(String.valueOf(eventSequence.incrementAndGet()))
+                .name(event.getType().name())
+                .data(event, MediaType.APPLICATION_JSON)
+                .build();   //한번 만든 이벤트를 모든 구독자가 같이 씀
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(sseEvent);
+        }
+    }
+
+    public int getSubscriberCount(Long postId) {
+        Set<Subscriber> subscribers = subscribersByPost.get(postId);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        sender.shutdownNow();
+        subscribersByPost.values().forEach(subscribers -> subscribers.forEach(s -> s.emitter.complete()));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribersByPost.computeIfPresent(subscriber.postId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<Set<ResponseBodyEmitter.DataWithMediaType>> buffer = new ArrayDeque<>(SUBSCRIBER_BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean dropped = new AtomicBoolean(false);
+        private Thread sendingThread;   //전송 중인 스레드, this로 동기화
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        private void offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+            synchronized (buffer) {
+                if (buffer.size() == SUBSCRIBER_BUFFER_SIZE) {
+                    buffer.pollFirst();     //가장 오래된 이벤트 버림
+                }
+                buffer.offerLast(event);
+            }
+            if (!dropped.get() && draining.compareAndSet(false, true)) {
+                scheduleDrain();
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<ResponseBodyEmitter.DataWithMediaType> event;
+                while (!dropped.get() && (event = poll()) != null) {
+                    send(event);
+                }
+                if (dropped.get()) {
+                    emitter.completeWithError(new IOException("sse 전송 시간 초과"));    //interrupt 없이 늦게 끝난 경우
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("sse 전송 실패 postId={}, {}", postId, e.getMessage());
+                drop();
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            //drain을 끝내는 사이에 들어온 이벤트가 있으면 다시 돈다
+            if (!dropped.get() && hasPending() && draining.compareAndSet(false, true)) {
+                scheduleDrain();
+            }
+        }
+
+        private void scheduleDrain() {
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.debug("sse 전송 큐 가득 참 postId={}", postId);
+                draining.set(false);
+            }
+        }
+
+        private void send(Set<ResponseBodyEmitter.DataWithMediaType> event) throws IOException {
+            synchronized (this) {
+                sendingThread = Thread.currentThread();
+            }
+            ScheduledFuture<?> timeout = watchdog.schedule(this::sendTimedOut, sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                emitter.send(event);
+            } finally {
+                timeout.cancel(false);
+                synchronized (this) {
+                    sendingThread = null;
+                    Thread.interrupted();   //전송이 끝난 직후 걸린 interrupt는 무시
+                }
+            }
+        }
+
+        //emitter는 전송 중인 스레드가 잡고 있으므로 여기서 complete 하지 않고, 풀려난 전송 스레드가 catch에서 정리한다
+        private void sendTimedOut() {
+            synchronized (this) {
+                if (sendingThread == null) {
+                    return;
+                }
+                log.debug("sse 전송 시간 초과 postId={}", postId);
+                drop();
+                sendingThread.interrupt();
+            }
+        }
+
+        private void drop() {
+            dropped.set(true);
+            unsubscribe(this);
+            synchronized (buffer) {
+                buffer.clear();
+            }
+        }
+
+        private Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+            synchronized (buffer) {
+                return buffer.pollFirst();
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.codingchosun.backend.component.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+//프로필에 보이는 값(정보, 해시태그, 매너점수, 받은 평가, 탈퇴)이 바뀌었을때 발행
+@Getter
+@ToString
+public class ProfileChangedEvent {
+    private final String loginId;
+    //닉네임은 글, 댓글 응답에도 들어가므로 따로 알린다
+    private final boolean nicknameChanged;
+
+    public ProfileChangedEvent(String loginId) {
+        this(loginId, false);
+    }
+
+    public ProfileChangedEvent(String loginId, boolean nicknameChanged) {
+        this.loginId = loginId;
+        this.nicknameChanged = nicknameChanged;
+    }
+}
@@ -0,0 +1,108 @@
+package com.codingchosun.backend.component.feed;
+
+import com.codingchosun.backend.component.index.ActivePostIndex;
+import com.codingchosun.backend.component.index.ActivePostIndex.ActivePost;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+*   로그인 피드 랭킹
+*   유저 해시태그와 하나라도 겹치는 ACTIVE post를 ActivePostIndex에서 후보로 뽑고
+*   해시태그 겹침 + 최신성 + 참가자 수 + 작성자 매너점수로 점수를 매겨 상위 FEED_LIMIT개를 힙으로 고른다
+*   결과(post id 순서)는 유저별로 잠깐 캐시한다
+*/
+@Component
+public class FeedRanker {
+
+    public static final int FEED_LIMIT = 200;
+
+    private static final double HASHTAG_WEIGHT = 0.4;
+    private static final double RECENCY_WEIGHT = 0.3;
+    private static final double PARTICIPANT_WEIGHT = 0.15;
+    private static final double AUTHOR_WEIGHT = 0.15;
+
+    //작성 후 이 시간이 지나면 최신성 점수가 절반
+    private static final double RECENCY_HALF_LIFE_HOURS = 24;
+    //참가자가 이만큼 모이면 참가자 점수 최대
+    private static final int PARTICIPANT_SATURATION = 10;
+    private static final int MAX_MANNER_SCORE = 100;
+
+    private static final long MAX_USER_SIZE = 10_000;
+    private static final Duration FEED_TTL = Duration.ofMinutes(1);
+
+    private final ActivePostIndex activePostIndex;
+    private final Cache<Long, List<Long>> feeds;
+
+    public FeedRanker(ActivePostIndex activePostIndex) {
+        this.activePostIndex = activePostIndex;
+        this.feeds = Caffeine.newBuilder()
+                .maximumSize(MAX_USER_SIZE)
+                .expireAfterWrite(FEED_TTL)
+                .build();
+    }
+
+    //점수 높은 순서의 post id, 후보가 없으면 빈 리스트
+    public List<Long> rank(Long userId, Set<Long> hashtagIds) {
+        return feeds.get(userId, id -> rank(hashtagIds, LocalDateTime.now()));
+    }
+
+    private List<Long> rank(Set<Long> hashtagIds, LocalDateTime now) {
+        if (hashtagIds.isEmpty()) {
+            return List.of();
+        }
+
+        //점수가 가장 낮은 post가 맨 위에 오는 힙, FEED_LIMIT개만 유지
+        PriorityQueue<ScoredPost> topPosts = new PriorityQueue<>(Comparator.comparingDouble(ScoredPost::getScore));
+        for (Map.Entry<Long, Integer> match : activePostIndex.countHashtagMatches(hashtagIds).entrySet()) {
+            Optional<ActivePost> activePost = activePostIndex.get(match.getKey());
+            if (activePost.isEmpty()) {
+                continue;
+            }
+            double score = score(activePost.get(), match.getValue(), hashtagIds.size(), now);
+            if (topPosts.size() < FEED_LIMIT) {
+                topPosts.offer(new ScoredPost(match.getKey(), score));
+            } else if (topPosts.peek().getScore() < score) {
+                topPosts.poll();
+                topPosts.offer(new ScoredPost(match.getKey(), score));
+            }
+        }
+
+        List<ScoredPost> ranked = new ArrayList<>(topPosts);
+        ranked.sort(Comparator.comparingDouble(ScoredPost::getScore).reversed()
+                .thenComparing(ScoredPost::getPostId, Comparator.reverseOrder()));
+        return ranked.stream().map(ScoredPost::getPostId).toList();
+    }
+
+    private double score(ActivePost activePost, int matchedHashtags, int userHashtags, LocalDateTime now) {
+        double hashtagScore = (double) matchedHashtags / userHashtags;
+
+        double ageHours = activePost.getCreatedAt() == null
+                ? RECENCY_HALF_LIFE_HOURS
+                : Math.max(0, Duration.between(activePost.getCreatedAt(), now).toMinutes() / 60.0);
+        double recencyScore = Math.pow(0.5, ageHours / RECENCY_HALF_LIFE_HOURS);
+
+        double participantScore = Math.min(1.0,
+                Math.log1p(activePost.getParticipantCount()) / Math.log1p(PARTICIPANT_SATURATION));
+
+        double authorScore = (double) activePost.getAuthorScore() / MAX_MANNER_SCORE;
+
+        return HASHTAG_WEIGHT * hashtagScore
+                + RECENCY_WEIGHT * recencyScore
+                + PARTICIPANT_WEIGHT * participantScore
+                + AUTHOR_WEIGHT * authorScore;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ScoredPost {
+        private final Long postId;
+        private final double score;
+    }
+}
@@ -0,0 +1,178 @@
+package com.codingchosun.backend.component.feed;
+
+import com.codingchosun.backend.component.event.PostActivityEvent;
+import com.codingchosun.backend.component.index.ActivePostIndex;
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
+import com.codingchosun.backend.repository.postrepository.HotPostSummary;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+*   조회, 댓글, 참가가 많은 ACTIVE post 순위
+*   각 이벤트 점수는 시간이 지나면 HALF_LIFE마다 절반이 되는데, 매번 전체를 다시 계산하지 않으려고
+*   이벤트 점수에 exp(λ(이벤트 시각 - 기준 시각))을 곱해서 더한다 (모든 post가 같은 비율로 줄어드므로 순서는 같음)
+*   값이 너무 커지지 않게 하루에 한번 기준 시각을 현재로 옮긴다
+*   post가 INACTIVE가 되면(삭제, 스케줄러) 커밋 후에 빼고, 다른 인스턴스에서 바뀐 것은 조회할때 ActivePostIndex를 보고 뺀다
+*   ActivePostIndex에 없는 post의 조회, 댓글, 참가는 순위에 넣지 않는다
+*/
+@Slf4j
+@Component
+public class HotPostLeaderboard {
+
+    private static final double VIEW_WEIGHT = 1;
+    private static final double COMMENT_WEIGHT = 3;
+    private static final double JOIN_WEIGHT = 5;
+    private static final Duration HALF_LIFE = Duration.ofHours(12);
+    private static final double DECAY_PER_SECOND = Math.log(2) / HALF_LIFE.getSeconds();
+
+    private static final Comparator<RankedPost> RANKING_ORDER = Comparator
+            .comparingDouble(RankedPost::getScore).reversed()
+            .thenComparing(RankedPost::getPostId, Comparator.reverseOrder());
+
+    private final DataJpaPostRepository dataJpaPostRepository;
+    private final ActivePostIndex activePostIndex;
+
+    private final Map<Long, Double> scores = new ConcurrentHashMap<>();
+    private final NavigableSet<RankedPost> ranking = new ConcurrentSkipListSet<>(RANKING_ORDER);
+    //점수 갱신은 read lock, 기준 시각 옮기기는 write lock
+    private final ReadWriteLock baseLock = new ReentrantReadWriteLock();
+    private volatile LocalDateTime baseTime = LocalDateTime.now();
+
+    public HotPostLeaderboard(DataJpaPostRepository dataJpaPostRepository, ActivePostIndex activePostIndex) {
+        this.dataJpaPostRepository = dataJpaPostRepository;
+        this.activePostIndex = activePostIndex;
+    }
+
+    //지금까지 쌓인 조회수, 댓글, 참가자는 post 작성 시각에 생긴것으로 보고 넣는다
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<HotPostSummary> summaries = dataJpaPostRepository.findHotSummariesByStateCode(StateCode.ACTIVE);
+        for (HotPostSummary summary : summaries) {
+            double points = VIEW_WEIGHT * Optional.ofNullable(summary.getViewCount()).orElse(0L)
+                    + COMMENT_WEIGHT * summary.getCommentCount()
+                    + JOIN_WEIGHT * summary.getParticipantCount();
+            add(summary.getPostId(), points, Optional.ofNullable(summary.getCreatedAt()).orElse(LocalDateTime.now()));
+        }
+        log.info("hot post leaderboard loaded: {}", summaries.size());
+    }
+
+    public void recordView(Long postId) {
+        if (activePostIndex.contains(postId)) {
+            add(postId, VIEW_WEIGHT, LocalDateTime.now());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void recordActivity(PostActivityEvent event) {
+        if (!activePostIndex.contains(event.getPostId())) {
+            return;
+        }
+        switch (event.getType()) {
+            case COMMENT_CREATED -> add(event.getPostId(), COMMENT_WEIGHT, event.getOccurredAt());
+            case COMMENT_DELETED -> add(event.getPostId(), -COMMENT_WEIGHT, event.getOccurredAt());
+            case PARTICIPANT_JOINED -> add(event.getPostId(), JOIN_WEIGHT, event.getOccurredAt());
+            case PARTICIPANT_LEFT -> add(event.getPostId(), -JOIN_WEIGHT, event.getOccurredAt());
+        }
+    }
+
+    //요청한 페이지의 post id와 ACTIVE post만 센 전체 개수, INACTIVE가 된 post는 여기서 지운다
+    public Page<Long> getPage(Pageable pageable) {
+        List<Long> postIds = new ArrayList<>(pageable.getPageSize());
+        long total = 0;
+        for (RankedPost rankedPost : ranking) {
+            if (!activePostIndex.contains(rankedPost.getPostId())) {
+                removeNow(rankedPost.getPostId());
+                continue;
+            }
+            if (total++ >= pageable.getOffset() && postIds.size() < pageable.getPageSize()) {
+                postIds.add(rankedPost.getPostId());
+            }
+        }
+        return new PageImpl<>(postIds, pageable, total);
+    }
+
+    //INACTIVE로 바뀐 post, 커밋된 뒤에 뺀다
+    public void remove(Long postId) {
+        TransactionCallbacks.afterCommit(() -> removeNow(postId));
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        List<Long> removed = List.copyOf(postIds);
+        TransactionCallbacks.afterCommit(() -> removed.forEach(this::removeNow));
+    }
+
+    private void removeNow(Long postId) {
+        scores.computeIfPresent(postId, (id, score) -> {
+            ranking.remove(new RankedPost(id, score));
+            return null;
+        });
+    }
+
+    //기준 시각을 현재로 옮기면서 모든 점수를 같은 비율로 줄인다
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebase() {
+        baseLock.writeLock().lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            double factor = decayFactor(baseTime, now);
+            for (Long postId : new ArrayList<>(scores.keySet())) {
+                scores.computeIfPresent(postId, (id, score) -> {
+                    ranking.remove(new RankedPost(id, score));
+                    double rebased = score / factor;
+                    ranking.add(new RankedPost(id, rebased));
+                    return rebased;
+                });
+            }
+            baseTime = now;
+        } finally {
+            baseLock.writeLock().unlock();
+        }
+    }
+
+    private void add(Long postId, double points, LocalDateTime occurredAt) {
+        baseLock.readLock().lock();
+        try {
+            double weighted = points * decayFactor(baseTime, occurredAt);
+            scores.compute(postId, (id, score) -> {
+                if (score != null) {
+                    ranking.remove(new RankedPost(id, score));
+                }
+                double next = (score == null ? 0 : score) + weighted;
+                ranking.add(new RankedPost(id, next));
+                return next;
+            });
+        } finally {
+            baseLock.readLock().unlock();
+        }
+    }
+
+    private static double decayFactor(LocalDateTime from, LocalDateTime to) {
+        return Math.exp(DECAY_PER_SECOND * Duration.between(from, to).getSeconds());
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RankedPost {
+        private final Long postId;
+        private final double score;
+    }
+}
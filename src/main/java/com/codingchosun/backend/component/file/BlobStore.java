@@ -0,0 +1,57 @@
+package com.codingchosun.backend.component.file;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/*
+*   이미지 저장소 SPI
+*   구현체는 image.storage.type 으로 선택한다 (local: FileStore, s3: S3BlobStore)
+*   ImageService는 이 인터페이스만 알고 있으므로 저장 위치와 상관없이 여러 인스턴스로 띄울 수 있다
+*/
+public interface BlobStore {
+
+    //key 이름으로 스트림을 저장하고 Image.url에 들어갈 위치를 리턴
+    String store(String key, InputStream inputStream, long size, String contentType) throws IOException;
+
+    //store가 리턴했던 위치의 파일 삭제
+    void delete(String location) throws IOException;
+
+    //이미지 저장 메서드 사진 여러개 가능
+    default List<String> storeImages(List<MultipartFile> multipartFiles) throws IOException {
+        List<String> storeFileResult = new ArrayList<>();
+        for (MultipartFile multipartFile : multipartFiles) {
+            if (!multipartFile.isEmpty()) {
+                storeFileResult.add(storeImage(multipartFile));
+            }
+        }
+        return storeFileResult; //저장된 파일들의 위치 리스트
+    }
+
+    default String storeImage(MultipartFile multipartFile) throws IOException {
+        if (multipartFile.isEmpty()) {
+            return null;
+        }
+        String storeFileName = createStoreFileName(multipartFile.getOriginalFilename());
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return store(storeFileName, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        }
+    }
+
+    //파일이름을 uuid로 만들어서 중복 방지
+    private static String createStoreFileName(String originalFilename) {
+        String ext = extractExt(originalFilename);
+        String uuid = UUID.randomUUID().toString();
+        return uuid + "." + ext;
+    }
+
+    //확장자 리턴(jpeg일수도 있고, png일수도있음)
+    private static String extractExt(String originalFilename) {
+        int pos = originalFilename.lastIndexOf(".");
+        return originalFilename.substring(pos + 1);
+    }
+}
@@ -2,34 +2,32 @@ package com.codingchosun.backend.component.file;
 
 
 
-import com.codingchosun.backend.repository.imagerepository.DataJpaImageRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
-//파일 저장 기능
+//파일 저장 기능 (로컬 디스크, 기본 저장소)
 @Component
 @Slf4j
-public class FileStore {
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "local", matchIfMissing = true)
+public class FileStore implements BlobStore {
 
     private final ApplicationContext applicationContext;
-    private final DataJpaImageRepository dataJpaImageRepository;
     private String DIRECTORY_PATH;
 
     @Autowired
-    public FileStore(ApplicationContext applicationContext, DataJpaImageRepository dataJpaImageRepository) {
+    public FileStore(ApplicationContext applicationContext) {
         this.applicationContext = applicationContext;
-        this.dataJpaImageRepository = dataJpaImageRepository;
     }
 
 
@@ -41,41 +39,18 @@ public class FileStore {
         log.info("path = {}",DIRECTORY_PATH);   //파일 경로확인용
     }
 
-    //이미지 저장 메서드 사진 여러개 가능
-    public List<String> storeImages(List<MultipartFile> multipartFiles) throws IOException {
-        List<String> storeFileResult = new ArrayList<>();
-        for (MultipartFile multipartFile : multipartFiles) {
-            if (!multipartFile.isEmpty()) {
-                storeFileResult.add(storeImage(multipartFile));
-            }
-        }
-        return storeFileResult; //저장된 파일들의 이름 리스트
-    }
-
-    public String  storeImage(MultipartFile multipartFile) throws IOException {
-        if (multipartFile.isEmpty()) {
-            return null;
-        }
-        String originalFilename = multipartFile.getOriginalFilename();
-        String storeFileName = createStoreFileName(originalFilename);
-        String fullPath = getFullPath(storeFileName);
+    @Override
+    public String store(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        String fullPath = getFullPath(key);
         log.info("저장되는 경로 = {}", fullPath);
-        multipartFile.transferTo(new File(fullPath));
+        Files.copy(inputStream, Path.of(fullPath), StandardCopyOption.REPLACE_EXISTING);
 
         return fullPath;
     }
 
-    //파일이름을 uuid로 만들어서 중복 방지
-    private String createStoreFileName(String originalFilename) {
-        String ext = extractExt(originalFilename);
-        String uuid = UUID.randomUUID().toString();
-        return uuid + "." + ext;
-    }
-
-    //확장자 리턴(jpeg일수도 있고, png일수도있음)
-    private String extractExt(String originalFilename) {
-        int pos = originalFilename.lastIndexOf(".");
-        return originalFilename.substring(pos + 1);
+    @Override
+    public void delete(String location) throws IOException {
+        Files.deleteIfExists(Path.of(location));
     }
 
     //파일포함한 경로
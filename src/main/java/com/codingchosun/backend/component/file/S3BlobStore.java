@@ -0,0 +1,123 @@
+package com.codingchosun.backend.component.file;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+*   S3 프로토콜 저장소 (AWS S3, MinIO 등)
+*   partSize 이하의 파일은 PutObject 한번, 그보다 크거나 크기를 모르면 partSize 단위로 읽어서 multipart 업로드
+*   파일 전체를 메모리에 올리지 않고 part 하나 크기의 버퍼만 사용한다
+*/
+@Slf4j
+public class S3BlobStore implements BlobStore {
+
+    private static final String SCHEME = "s3://";
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String keyPrefix;
+    private final int partSize;     //S3는 마지막 part를 제외하고 5MB 이상이어야 함
+
+    public S3BlobStore(S3Client s3Client, String bucket, String keyPrefix, int partSize) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+        this.partSize = partSize;
+    }
+
+    @Override
+    public String store(String key, InputStream inputStream, long size, String contentType) throws IOException {
+        String objectKey = keyPrefix + key;
+        log.info("저장되는 위치 = {}/{}", bucket, objectKey);
+
+        try {
+            if (size >= 0 && size <= partSize) {
+                s3Client.putObject(PutObjectRequest.builder()
+                                .bucket(bucket)
+                                .key(objectKey)
+                                .contentType(contentType)
+                                .contentLength(size)
+                                .build(),
+                        RequestBody.fromInputStream(inputStream, size));
+            } else {
+                multipartUpload(objectKey, inputStream, contentType);
+            }
+        } catch (SdkException e) {
+            throw new IOException("s3 업로드 실패 key: " + objectKey, e);
+        }
+
+        return SCHEME + bucket + "/" + objectKey;
+    }
+
+    @Override
+    public void delete(String location) throws IOException {
+        String prefix = SCHEME + bucket + "/";
+        if (!location.startsWith(prefix)) {
+            throw new IOException("이 저장소의 위치가 아닙니다: " + location);
+        }
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(location.substring(prefix.length()))
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("s3 삭제 실패 location: " + location, e);
+        }
+    }
+
+    private void multipartUpload(String objectKey, InputStream inputStream, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucket)
+                        .key(objectKey)
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        try {
+            List<CompletedPart> completedParts = new ArrayList<>();
+            byte[] buffer = new byte[partSize];
+            int partNumber = 1;
+            int read;
+            while ((read = inputStream.readNBytes(buffer, 0, partSize)) > 0) {
+                UploadPartResponse uploadPartResponse = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucket)
+                                .key(objectKey)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read));
+
+                completedParts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(uploadPartResponse.eTag())
+                        .build());
+                partNumber++;
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                    .build());
+        } catch (IOException | SdkException e) {
+            //업로드 중 실패하면 올라간 part들이 남지 않도록 취소
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket)
+                    .key(objectKey)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+}
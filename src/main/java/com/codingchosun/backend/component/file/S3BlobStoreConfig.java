@@ -0,0 +1,49 @@
+package com.codingchosun.backend.component.file;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+//image.storage.type=s3 일때만 사용, endpoint를 주면 MinIO 같은 로컬 S3 호환 서버로 붙는다
+@Configuration
+@ConditionalOnProperty(name = "image.storage.type", havingValue = "s3")
+public class S3BlobStoreConfig {
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(@Value("${image.storage.s3.region:ap-northeast-2}") String region,
+                             @Value("${image.storage.s3.endpoint:}") String endpoint,
+                             @Value("${image.storage.s3.access-key:}") String accessKey,
+                             @Value("${image.storage.s3.secret-key:}") String secretKey,
+                             @Value("${image.storage.s3.path-style:false}") boolean pathStyle) {
+        AwsCredentialsProvider credentialsProvider = accessKey.isEmpty()
+                ? DefaultCredentialsProvider.create()
+                : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(credentialsProvider)
+                .forcePathStyle(pathStyle);
+        if (!endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    public BlobStore s3BlobStore(S3Client s3Client,
+                                 @Value("${image.storage.s3.bucket}") String bucket,
+                                 @Value("${image.storage.s3.key-prefix:images/}") String keyPrefix,
+                                 @Value("${image.storage.s3.part-size:5242880}") int partSize) {
+        return new S3BlobStore(s3Client, bucket, keyPrefix, partSize);
+    }
+}
@@ -0,0 +1,243 @@
+package com.codingchosun.backend.component.index;
+
+import com.codingchosun.backend.component.event.PostActivityEvent;
+import com.codingchosun.backend.component.event.PostActivityType;
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.domain.Post;
+import com.codingchosun.backend.repository.hashtagrepository.DataJpaPostHashRepository;
+import com.codingchosun.backend.repository.hashtagrepository.PostHashtagId;
+import com.codingchosun.backend.repository.postrepository.ActivePostSummary;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
+import com.codingchosun.backend.repository.postuserrepository.DataJpaPostUserRepository;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/*
+*   ACTIVE 상태인 post를 메모리에 들고 있는 인덱스
+*   post별로 피드 랭킹에 쓰는 값(작성시간, 작성자 매너점수, 참가자 수, 해시태그)과
+*   해시태그 id -> post id 역인덱스를 같이 가진다
+*   시작할때 한번 읽어오고 PostService, PostUserService, EventScheduler가 상태를 바꿀때 커밋된 뒤에 같이 갱신한다
+*   다른 인스턴스에서 바꾼 내용과 어긋날 수 있으므로 10분마다 db에서 새로 만들어 통째로 바꾼다
+*   새로 만드는 동안 들어온 변경은 모아뒀다가 새 스냅샷에도 적용한 뒤 바꾼다 (그래서 모든 변경은 두번 적용해도 같은 결과여야 함)
+*   다른 인스턴스에서 만든 post는 없을수 있으므로 contains가 false면 db를 확인해야 함
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivePostIndex {
+
+    private final DataJpaPostRepository dataJpaPostRepository;
+    private final DataJpaPostHashRepository dataJpaPostHashRepository;
+    private final DataJpaPostUserRepository dataJpaPostUserRepository;
+    private final PrimaryReader primaryReader;
+    private volatile Snapshot snapshot = new Snapshot();
+    //변경은 이 락 안에서 적용, 다시 만드는 중이면 pending에도 남긴다
+    private final Object mutationLock = new Object();
+    private List<Consumer<Snapshot>> pending;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public synchronized void reload() {
+        synchronized (mutationLock) {
+            pending = new ArrayList<>();
+        }
+        Snapshot loaded = new Snapshot();
+        try {
+            primaryReader.read(() -> {
+                loadInto(loaded);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            synchronized (mutationLock) {
+                pending = null;
+            }
+            throw e;
+        }
+        synchronized (mutationLock) {
+            pending.forEach(mutation -> mutation.accept(loaded));
+            pending = null;
+            snapshot = loaded;
+        }
+        log.info("active post index loaded: {}", loaded.activePosts.size());
+    }
+
+    private void loadInto(Snapshot loaded) {
+        Map<Long, Set<Long>> hashtagIdsByPost = dataJpaPostHashRepository.findHashtagIdsByPostStateCode(StateCode.ACTIVE).stream()
+                .collect(Collectors.groupingBy(PostHashtagId::getPostId,
+                        Collectors.mapping(PostHashtagId::getHashtagId, Collectors.toSet())));
+
+        List<ActivePostSummary> summaries = dataJpaPostRepository.findSummariesByStateCode(StateCode.ACTIVE);
+        for (ActivePostSummary summary : summaries) {
+            loaded.put(new ActivePost(summary.getPostId(), summary.getCreatedAt(), summary.getAuthorId(),
+                    summary.getAuthorScore(), summary.getParticipantCount(),
+                    hashtagIdsByPost.getOrDefault(summary.getPostId(), Set.of())));
+        }
+    }
+
+    public boolean contains(Long postId) {
+        return snapshot.activePosts.containsKey(postId);
+    }
+
+    //인덱스에 없으면 db 확인 (INACTIVE post거나 다른 인스턴스에서 만든 post)
+    public boolean exists(Long postId) {
+        return contains(postId) || dataJpaPostRepository.existsById(postId);
+    }
+
+    public Optional<ActivePost> get(Long postId) {
+        return Optional.ofNullable(snapshot.activePosts.get(postId));
+    }
+
+    //해시태그가 하나라도 겹치는 post id별 겹치는 해시태그 개수
+    public Map<Long, Integer> countHashtagMatches(Collection<Long> hashtagIds) {
+        Map<Long, Set<Long>> postIdsByHashtag = snapshot.postIdsByHashtag;
+        Map<Long, Integer> matches = new HashMap<>();
+        for (Long hashtagId : hashtagIds) {
+            for (Long postId : postIdsByHashtag.getOrDefault(hashtagId, Set.of())) {
+                matches.merge(postId, 1, Integer::sum);
+            }
+        }
+        return matches;
+    }
+
+    //새로 작성된 post, 작성자가 첫 참가자
+    //값은 지금 꺼내두고 인덱스에는 커밋된 뒤에 넣는다
+    public void add(Post post, Collection<Long> hashtagIds) {
+        Long postId = post.getPostId();
+        LocalDateTime createdAt = post.getCreatedAt();
+        Long authorId = post.getUser().getUserId();
+        int authorScore = post.getUser().getScore();
+        Set<Long> hashtags = Set.copyOf(hashtagIds);
+        TransactionCallbacks.afterCommit(() -> apply(index ->
+                index.put(new ActivePost(postId, createdAt, authorId, authorScore, 1, hashtags))));
+    }
+
+    public void updateHashtags(Long postId, Collection<Long> hashtagIds) {
+        Set<Long> hashtags = Set.copyOf(hashtagIds);
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.updateHashtags(postId, hashtags)));
+    }
+
+    public void remove(Long postId) {
+        TransactionCallbacks.afterCommit(() -> apply(index -> index.remove(postId)));
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        List<Long> removed = List.copyOf(postIds);
+        TransactionCallbacks.afterCommit(() -> apply(index -> removed.forEach(index::remove)));
+    }
+
+    //이미 커밋 후에 불리므로 바로 적용
+    //+1/-1을 더하지 않고 db의 참가자 수를 다시 읽어서 넣는다
+    //다시 만드는 중에 들어온 변경을 새 스냅샷에 한번 더 적용해도(이미 읽은 값에 포함돼 있어도) 값이 어긋나지 않도록
+    @TransactionalEventListener(fallbackExecution = true)
+    public void updateParticipantCount(PostActivityEvent event) {
+        if (event.getType() != PostActivityType.PARTICIPANT_JOINED && event.getType() != PostActivityType.PARTICIPANT_LEFT) {
+            return;
+        }
+        Long postId = event.getPostId();
+        apply(index -> {
+            ActivePost activePost = index.activePosts.get(postId);
+            if (activePost != null) {
+                activePost.participantCount.set(
+                        primaryReader.read(() -> (int) dataJpaPostUserRepository.countByPost_PostId(postId)));
+            }
+        });
+    }
+
+    private void apply(Consumer<Snapshot> mutation) {
+        synchronized (mutationLock) {
+            mutation.accept(snapshot);
+            if (pending != null) {
+                pending.add(mutation);
+            }
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<Long, ActivePost> activePosts = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> postIdsByHashtag = new ConcurrentHashMap<>();
+
+        private void put(ActivePost activePost) {
+            ActivePost previous = activePosts.put(activePost.getPostId(), activePost);
+            if (previous != null) {
+                unlinkHashtags(previous);
+            }
+            linkHashtags(activePost);
+        }
+
+        private void updateHashtags(Long postId, Set<Long> hashtagIds) {
+            ActivePost activePost = activePosts.get(postId);
+            if (activePost == null) {
+                return;
+            }
+            unlinkHashtags(activePost);
+            activePost.hashtagIds = hashtagIds;
+            linkHashtags(activePost);
+        }
+
+        private void remove(Long postId) {
+            ActivePost activePost = activePosts.remove(postId);
+            if (activePost != null) {
+                unlinkHashtags(activePost);
+            }
+        }
+
+        private void linkHashtags(ActivePost activePost) {
+            for (Long hashtagId : activePost.getHashtagIds()) {
+                postIdsByHashtag.computeIfAbsent(hashtagId, id -> ConcurrentHashMap.newKeySet()).add(activePost.getPostId());
+            }
+        }
+
+        private void unlinkHashtags(ActivePost activePost) {
+            for (Long hashtagId : activePost.getHashtagIds()) {
+                postIdsByHashtag.computeIfPresent(hashtagId, (id, postIds) -> {
+                    postIds.remove(activePost.getPostId());
+                    return postIds.isEmpty() ? null : postIds;
+                });
+            }
+        }
+    }
+
+    @Getter
+    public static class ActivePost {
+        private final Long postId;
+        private final LocalDateTime createdAt;
+        private final Long authorId;
+        //post 작성(서버 시작) 시점의 작성자 점수
+        private final int authorScore;
+        private final AtomicInteger participantCount;
+        private volatile Set<Long> hashtagIds;
+
+        private ActivePost(Long postId, LocalDateTime createdAt, Long authorId, int authorScore,
+                           int participantCount, Set<Long> hashtagIds) {
+            this.postId = postId;
+            this.createdAt = createdAt;
+            this.authorId = authorId;
+            this.authorScore = authorScore;
+            this.participantCount = new AtomicInteger(participantCount);
+            this.hashtagIds = hashtagIds;
+        }
+
+        public int getParticipantCount() {
+            return participantCount.get();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.codingchosun.backend.component.index;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/*
+*   geohash 계산
+*   경도, 위도를 번갈아 이분하면서 나온 비트를 5개씩 base32 문자로 바꾼다
+*   앞부분이 같으면 같은 칸 안에 있으므로 문자열 정렬 순서로 범위 검색이 가능
+*/
+public final class GeoHash {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    //precision 자리 geohash 한칸의 위도 방향 크기(도)
+    public static double cellHeight(int precision) {
+        int latBits = (precision * 5) / 2;
+        return 180.0 / Math.pow(2, latBits);
+    }
+
+    //precision 자리 geohash 한칸의 경도 방향 크기(도)
+    public static double cellWidth(int precision) {
+        int lngBits = (precision * 5 + 1) / 2;
+        return 360.0 / Math.pow(2, lngBits);
+    }
+
+    //한칸이 반경보다 큰 가장 긴 precision, 이 칸과 주변 8칸만 보면 반경 안의 점은 모두 찾는다
+    public static int precisionFor(double latitude, double radiusKm) {
+        double latDegrees = radiusKm / KM_PER_DEGREE;
+        double lngDegrees = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        for (int precision = MAX_PRECISION; precision > 0; precision--) {
+            if (cellHeight(precision) >= latDegrees && cellWidth(precision) >= lngDegrees) {
+                return precision;
+            }
+        }
+        return 0;
+    }
+
+    //중심이 들어있는 칸과 주변 8칸, 경도는 ±180에서 반대편으로 넘어가고 극 근처에서는 위/아래 칸이 겹쳐 9개보다 적을 수 있다
+    public static Set<String> neighbours(double latitude, double longitude, int precision) {
+        double height = cellHeight(precision);
+        double width = cellWidth(precision);
+        Set<String> cells = new HashSet<>();
+        for (int dLat = -1; dLat <= 1; dLat++) {
+            for (int dLng = -1; dLng <= 1; dLng++) {
+                cells.add(encode(clampLatitude(latitude + dLat * height), wrapLongitude(longitude + dLng * width), precision));
+            }
+        }
+        return cells;
+    }
+
+    //주변 칸 계산용, 위도 경도를 범위 안으로 맞춘다
+    public static double clampLatitude(double latitude) {
+        return Math.max(-90, Math.min(90, latitude));
+    }
+
+    public static double wrapLongitude(double longitude) {
+        if (longitude < -180) {
+            return longitude + 360;
+        }
+        if (longitude >= 180) {
+            return longitude - 360;
+        }
+        return longitude;
+    }
+
+    //두 점 사이 거리(km), haversine
+    public static double distanceKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
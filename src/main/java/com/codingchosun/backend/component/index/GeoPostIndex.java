@@ -0,0 +1,144 @@
+package com.codingchosun.backend.component.index;
+
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.domain.Post;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
+import com.codingchosun.backend.repository.postrepository.PostLocation;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/*
+*   위치가 있는 ACTIVE post의 geohash 인덱스
+*   "geohash:postId" 문자열을 정렬된 skip list에 넣어두고
+*   반경 검색은 반경을 덮는 칸과 주변 8칸의 prefix 범위만 읽은 뒤 실제 거리로 거른다 (O(log n + k))
+*   PostService가 작성, 수정, 삭제할때와 EventScheduler가 INACTIVE로 바꿀때 커밋된 뒤에 갱신하고, 시작시간이 지난 post는 검색 조건에서 빠진다
+*/
+@Slf4j
+@Component
+public class GeoPostIndex {
+
+    private static final int INDEX_PRECISION = GeoHash.MAX_PRECISION;
+    private static final char KEY_SEPARATOR = ':';
+
+    private final DataJpaPostRepository dataJpaPostRepository;
+    private final ActivePostIndex activePostIndex;
+    private final ConcurrentSkipListMap<String, GeoPost> postsByGeoHash = new ConcurrentSkipListMap<>();
+    private final Map<Long, GeoPost> postsById = new ConcurrentHashMap<>();
+
+    public GeoPostIndex(DataJpaPostRepository dataJpaPostRepository, ActivePostIndex activePostIndex) {
+        this.dataJpaPostRepository = dataJpaPostRepository;
+        this.activePostIndex = activePostIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<PostLocation> locations = dataJpaPostRepository.findLocationsByStateCode(StateCode.ACTIVE);
+        for (PostLocation location : locations) {
+            put(new GeoPost(location.getPostId(), location.getLatitude(), location.getLongitude(), location.getStartTime()));
+        }
+        log.info("geo post index loaded: {}", locations.size());
+    }
+
+    //위치가 없으면 인덱스에서 뺀다
+    public void put(Post post) {
+        Long postId = post.getPostId();
+        if (post.getLatitude() == null || post.getLongitude() == null) {
+            remove(postId);
+            return;
+        }
+        GeoPost geoPost = new GeoPost(postId, post.getLatitude(), post.getLongitude(), post.getStartTime());
+        TransactionCallbacks.afterCommit(() -> put(geoPost));
+    }
+
+    public void remove(Long postId) {
+        TransactionCallbacks.afterCommit(() -> removeNow(postId));
+    }
+
+    public void removeAll(Collection<Long> postIds) {
+        List<Long> removed = List.copyOf(postIds);
+        TransactionCallbacks.afterCommit(() -> removed.forEach(this::removeNow));
+    }
+
+    private void removeNow(Long postId) {
+        GeoPost geoPost = postsById.remove(postId);
+        if (geoPost != null) {
+            postsByGeoHash.remove(geoPost.key);
+        }
+    }
+
+    //중심에서 radiusKm 안에 있고 startTime이 after 이후인 post, 가까운 순서로 최대 limit개
+    public List<GeoPost> findNearby(double latitude, double longitude, double radiusKm, LocalDateTime after, int limit) {
+        int precision = GeoHash.precisionFor(latitude, radiusKm);
+        Collection<GeoPost> candidates = precision == 0
+                ? postsById.values()
+                : collectCandidates(latitude, longitude, precision);
+
+        List<GeoPost> nearby = new ArrayList<>();
+        for (GeoPost geoPost : candidates) {
+            if (!geoPost.startTime.isAfter(after) || !activePostIndex.contains(geoPost.postId)) {
+                continue;
+            }
+            double distance = GeoHash.distanceKm(latitude, longitude, geoPost.latitude, geoPost.longitude);
+            if (distance <= radiusKm) {
+                nearby.add(geoPost.withDistance(distance));
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(GeoPost::getDistanceKm));
+        return nearby.size() > limit ? nearby.subList(0, limit) : nearby;
+    }
+
+    private Collection<GeoPost> collectCandidates(double latitude, double longitude, int precision) {
+        Map<Long, GeoPost> candidates = new HashMap<>();
+        for (String cell : GeoHash.neighbours(latitude, longitude, precision)) {
+            //prefix로 시작하는 key 범위 ('~'는 base32 문자와 ':'보다 뒤)
+            for (GeoPost geoPost : postsByGeoHash.subMap(cell, true, cell + '~', false).values()) {
+                candidates.put(geoPost.postId, geoPost);
+            }
+        }
+        return candidates.values();
+    }
+
+    private void put(GeoPost geoPost) {
+        removeNow(geoPost.postId);
+        postsById.put(geoPost.postId, geoPost);
+        postsByGeoHash.put(geoPost.key, geoPost);
+    }
+
+    @Getter
+    public static class GeoPost {
+        private final Long postId;
+        private final double latitude;
+        private final double longitude;
+        private final LocalDateTime startTime;
+        //검색 결과에서만 채워짐
+        private final double distanceKm;
+        private final String key;
+
+        private GeoPost(Long postId, double latitude, double longitude, LocalDateTime startTime) {
+            this(postId, latitude, longitude, startTime, 0,
+                    GeoHash.encode(latitude, longitude, INDEX_PRECISION) + KEY_SEPARATOR + postId);
+        }
+
+        private GeoPost(Long postId, double latitude, double longitude, LocalDateTime startTime, double distanceKm, String key) {
+            this.postId = postId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.startTime = startTime;
+            this.distanceKm = distanceKm;
+            this.key = key;
+        }
+
+        private GeoPost withDistance(double distanceKm) {
+            return new GeoPost(postId, latitude, longitude, startTime, distanceKm, key);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.codingchosun.backend.component.index;
+
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
+import com.codingchosun.backend.repository.hashtagrepository.DataJpaHashtagRepository;
+import com.codingchosun.backend.repository.hashtagrepository.HashtagUsage;
+import com.codingchosun.backend.response.HashtagSuggestResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+*   해시태그 자동완성용 인덱스
+*   이름 순서로 정렬된 map에서 prefix로 시작하는 구간만 잘라 읽고, 사용 횟수가 많은 순으로 size개 고른다
+*   새 해시태그나 글/유저에 붙는 경우 increase()로 커밋 후에 반영
+*   떼어지는 경우는 따로 빼지 않고 주기적으로 db에서 다시 읽어서 맞춘다
+*/
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagSuggestIndex {
+
+    private final DataJpaHashtagRepository dataJpaHashtagRepository;
+    private volatile ConcurrentSkipListMap<String, AtomicLong> usages = new ConcurrentSkipListMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public synchronized void reload() {
+        ConcurrentSkipListMap<String, AtomicLong> loaded = new ConcurrentSkipListMap<>();
+        for (HashtagUsage usage : dataJpaHashtagRepository.findAllUsages()) {
+            loaded.put(usage.getHashtagName(), new AtomicLong(usage.getUsageCount()));
+        }
+        usages = loaded;
+        log.info("hashtag suggest index loaded: {}", loaded.size());
+    }
+
+    //해시태그가 글이나 유저에 붙었을때, 처음 보는 이름이면 새로 추가
+    //롤백된 해시태그가 추천에 나오지 않도록 커밋된 뒤에 올린다
+    public void increase(String hashtagName) {
+        if (hashtagName == null || hashtagName.isBlank()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> usages.computeIfAbsent(hashtagName, k -> new AtomicLong()).incrementAndGet());
+    }
+
+    //prefix로 시작하는 해시태그 중 사용 횟수 상위 size개, 횟수가 같으면 이름순
+    public List<HashtagSuggestResponse> suggest(String prefix, int size) {
+        if (prefix == null || prefix.isEmpty() || size <= 0) {
+            return List.of();
+        }
+        ConcurrentNavigableMap<String, AtomicLong> range = usages.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+
+        //상위 size개만 남기는 min heap
+        PriorityQueue<HashtagSuggestResponse> heap = new PriorityQueue<>(size + 1, ORDER.reversed());
+        for (Map.Entry<String, AtomicLong> entry : range.entrySet()) {
+            heap.offer(new HashtagSuggestResponse(entry.getKey(), entry.getValue().get()));
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+        List<HashtagSuggestResponse> result = new ArrayList<>(heap);
+        result.sort(ORDER);
+        return result;
+    }
+
+    public int size() {
+        return usages.size();
+    }
+
+    private static final Comparator<HashtagSuggestResponse> ORDER =
+            Comparator.comparingLong(HashtagSuggestResponse::getCount).reversed()
+                    .thenComparing(HashtagSuggestResponse::getHashtagName);
+}
@@ -1,10 +1,17 @@
 package com.codingchosun.backend.component.scheduler;
 
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.feed.HotPostLeaderboard;
+import com.codingchosun.backend.component.index.ActivePostIndex;
+import com.codingchosun.backend.component.index.GeoPostIndex;
 import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.PostUser;
 import com.codingchosun.backend.domain.User;
 import com.codingchosun.backend.domain.Validate;
+import com.codingchosun.backend.repository.hashtagrepository.DataJpaPostHashRepository;
+import com.codingchosun.backend.repository.hashtagrepository.HashtagStatRepository;
+import com.codingchosun.backend.repository.hashtagrepository.PostHashtagId;
 import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
 import com.codingchosun.backend.repository.validaterepository.ValidateRepository;
 import com.codingchosun.backend.response.UserPairDto;
@@ -27,6 +34,12 @@ public class EventScheduler {
 
     private final DataJpaPostRepository dataJpaPostRepository;
     private final ValidateRepository validateRepository;
+    private final ActivePostIndex activePostIndex;
+    private final HotPostLeaderboard hotPostLeaderboard;
+    private final GeoPostIndex geoPostIndex;
+    private final DataJpaPostHashRepository dataJpaPostHashRepository;
+    private final HashtagStatRepository hashtagStatRepository;
+    private final ContentVersions contentVersions;
     /*
     *   매 30분마다
     *   1. startTime이 지나간 post를 확인해서 post의 참가자를 validate 테이블에 넣어줌
@@ -35,14 +48,14 @@ public class EventScheduler {
     @Scheduled(cron = "0 */5 * * * *")
     public void postEventScheduler(){
         log.info("post event scheduler started at {}", LocalDateTime.now().plusHours(9));
-        updateStartTimeEvent();
-        updateEndTimeEvent();
-    }
-
-    private void updateEndTimeEvent(){
+        //(stateCode, startTime) 인덱스 범위 검색 한번으로 대상 post를 가져와서 두 작업에 같이 쓴다
         List<Post> targetPostList = dataJpaPostRepository
                 .findAllByStartTimeBeforeAndStateCode(LocalDateTime.now().plusHours(9), StateCode.ACTIVE);
+        updateStartTimeEvent(targetPostList);
+        updateEndTimeEvent(targetPostList);
+    }
 
+    private void updateEndTimeEvent(List<Post> targetPostList){
         //확인용
         List<Long> postIdList = targetPostList.stream()
                 .map(Post::getPostId)
@@ -52,12 +65,24 @@ public class EventScheduler {
         for (Post targetPost : targetPostList) {
             targetPost.setStateCode(StateCode.INACTIVE);
         }
-    }
+        activePostIndex.removeAll(postIdList);
+        hotPostLeaderboard.removeAll(postIdList);
+        geoPostIndex.removeAll(postIdList);
+        postIdList.forEach(contentVersions::postChanged);
+        if (!postIdList.isEmpty()) {
+            contentVersions.feedChanged();
+        }
 
-    private void updateStartTimeEvent(){
-        List<Post> targetPostList = dataJpaPostRepository
-                .findAllByStartTimeBeforeAndStateCode(LocalDateTime.now().plusHours(9), StateCode.ACTIVE);
+        //비활성화된 post에 붙은 해시태그 통계 감소
+        if (!postIdList.isEmpty()) {
+            List<Long> hashtagIds = dataJpaPostHashRepository.findHashtagIdsByPostIdIn(postIdList).stream()
+                    .map(PostHashtagId::getHashtagId)
+                    .toList();
+            hashtagStatRepository.addActivePostCounts(hashtagIds, -1);
+        }
+    }
 
+    private void updateStartTimeEvent(List<Post> targetPostList){
         //확인용
         List<Long> postIdList = targetPostList.stream()
                 .map(Post::getPostId)
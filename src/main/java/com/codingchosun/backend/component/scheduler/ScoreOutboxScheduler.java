@@ -0,0 +1,55 @@
+package com.codingchosun.backend.component.scheduler;
+
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import com.codingchosun.backend.constants.ScoreOutboxStatus;
+import com.codingchosun.backend.domain.ScoreOutbox;
+import com.codingchosun.backend.repository.outboxrepository.ScoreOutboxRepository;
+import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/*
+*   1초마다 score_outbox의 PENDING 행을 최대 BATCH_SIZE개 가져와서
+*   toUser별로 변화량을 합친 뒤 유저당 UPDATE 한번으로 매너 점수를 반영하고 APPLIED로 바꿈
+*   SKIP LOCKED로 가져오므로 여러 인스턴스가 같이 돌아도 같은 행을 두번 반영하지 않는다
+*/
+@Component
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class ScoreOutboxScheduler {
+
+    private static final int BATCH_SIZE = 200;
+
+    private final ScoreOutboxRepository scoreOutboxRepository;
+    private final DataJpaUserRepository dataJpaUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Scheduled(fixedDelay = 1000)
+    public void applyPendingScores() {
+        List<ScoreOutbox> pending = scoreOutboxRepository.findPendingForUpdate(BATCH_SIZE);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> scoreDeltas = pending.stream()
+                .collect(Collectors.toMap(ScoreOutbox::getToUserId, ScoreOutbox::getDelta, Integer::sum));
+        dataJpaUserRepository.addScores(scoreDeltas);
+        scoreOutboxRepository.updateStatus(pending.stream().map(ScoreOutbox::getOutboxId).toList(),
+                ScoreOutboxStatus.APPLIED, LocalDateTime.now());
+
+        for (String loginId : dataJpaUserRepository.findLoginIdsByUserIdIn(scoreDeltas.keySet())) {
+            eventPublisher.publishEvent(new ProfileChangedEvent(loginId));
+        }
+        log.info("score outbox applied: {} rows, {} users", pending.size(), scoreDeltas.size());
+    }
+}
@@ -0,0 +1,38 @@
+package com.codingchosun.backend.component.transaction;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/*
+*   캐시, 인메모리 인덱스를 채우는 읽기는 primary에서 한다
+*   readOnly 트랜잭션은 replica로 가는데(ReplicationRoutingDataSource), 커밋 직후 캐시를 비운 뒤
+*   아직 복제가 안 된 replica에서 다시 채우면 옛 값이 TTL 동안 남기 때문
+*   쓰기 트랜잭션 안이면 이미 primary이므로 그대로 쓰고, readOnly 트랜잭션 안이면 새 트랜잭션을 연다
+*/
+@Component
+public class PrimaryReader {
+
+    private final TransactionTemplate readWrite;
+    private final TransactionTemplate requiresNew;
+
+    public PrimaryReader(PlatformTransactionManager transactionManager) {
+        this.readWrite = new TransactionTemplate(transactionManager);
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return readWrite.execute(status -> reader.get());
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return requiresNew.execute(status -> reader.get());
+        }
+        return reader.get();
+    }
+}
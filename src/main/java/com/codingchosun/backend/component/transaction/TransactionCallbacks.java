@@ -0,0 +1,43 @@
+package com.codingchosun.backend.component.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+*   트랜잭션 결과에 맞춰 db 밖의 상태(파일, 인메모리 캐시, 인덱스)를 바꿀 때 쓴다
+*   트랜잭션이 없으면 이미 반영된 것으로 보고 바로 실행한다
+*/
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    //커밋된 뒤에만 실행, 롤백되면 실행하지 않는다
+    public static void afterCommit(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            callback.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                callback.run();
+            }
+        });
+    }
+
+    //롤백됐을 때만 실행 (이미 만든 외부 자원 정리용)
+    public static void afterRollback(Runnable callback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    callback.run();
+                }
+            }
+        });
+    }
+}
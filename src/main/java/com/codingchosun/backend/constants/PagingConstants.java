@@ -11,4 +11,22 @@ public final class PagingConstants {
     public static final int DEFAULT_IMAGE_URL_PAGE_NO = 0;
     public static final int MAX_IMAGE_URL_SIZE = 10;
     public static final String DEFAULT_IMAGE_URL_CRITERIA = "imageId";
+
+    //시작시간 범위 검색
+    public static final int MAX_TIME_WINDOW_SIZE = 50;
+
+    //검색 해시태그 집계
+    public static final int DEFAULT_FACET_SIZE = 10;
+    public static final int MAX_FACET_SIZE = 30;
+
+    //해시태그 자동완성
+    public static final int DEFAULT_SUGGEST_SIZE = 10;
+    public static final int MAX_SUGGEST_SIZE = 20;
+
+    //주변 모임 검색
+    public static final int MAX_NEARBY_SIZE = 50;
+    public static final double MAX_NEARBY_RADIUS_KM = 50;
+
+    //목록에 보여줄 본문 길이
+    public static final int MAX_EXCERPT_LENGTH = 100;
 }
@@ -0,0 +1,5 @@
+package com.codingchosun.backend.constants;
+
+public enum ScoreOutboxStatus {
+    PENDING, APPLIED
+}
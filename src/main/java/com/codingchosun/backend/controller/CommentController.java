@@ -1,18 +1,17 @@
 package com.codingchosun.backend.controller;
 
 import com.codingchosun.backend.constants.ExceptionConstants;
+import com.codingchosun.backend.constants.PagingConstants;
 import com.codingchosun.backend.domain.Comment;
-import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.User;
 import com.codingchosun.backend.exception.LoggedInUserNotFound;
 import com.codingchosun.backend.exception.emptyrequest.EmptyCommentException;
-import com.codingchosun.backend.exception.notfoundfromdb.PostNotFoundFromDB;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.request.RegisterCommentRequest;
 import com.codingchosun.backend.response.ApiResponse;
 import com.codingchosun.backend.response.CommentResponse;
+import com.codingchosun.backend.response.CommentSliceResponse;
 import com.codingchosun.backend.service.CommentService;
-import com.codingchosun.backend.service.PostService;
 import com.codingchosun.backend.web.argumentresolver.Login;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +19,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -27,6 +27,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -35,7 +36,6 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
-    private final PostService postService;
     private final DataJpaUserRepository dataJpaUserRepository;
 
     @PostMapping("/posts/{postId}/comments")
@@ -54,11 +54,8 @@ public class CommentController {
             throw new EmptyCommentException(ExceptionConstants.EMPTY_COMMENT);
         }
 
-        //포스트 가져오며 예외처리
-        Post post = postService.getPost(postId)
-                .orElseThrow(() -> new PostNotFoundFromDB("postId: " + postId + "를 찾지 못했습니다"));
-
-        Comment comment = commentService.registerComments(user, post, registerCommentRequest);
+        //포스트 존재 검사는 서비스에서
+        Comment comment = commentService.registerComments(user, postId, registerCommentRequest);
 
         return new ApiResponse<>(HttpStatus.OK, true, comment.getCommentId());
     }
@@ -73,6 +70,18 @@ public class CommentController {
         return commentService.getPagedComments(pageable, postId);
     }
 
+    //커서 방식 댓글 목록 (created_at, comment_id 내림차순)
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public CommentSliceResponse getPostCommentsByCursor(@PathVariable Long postId,
+                                                        @RequestParam(required = false, value = "lastCreatedAt")
+                                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastCreatedAt,
+                                                        @RequestParam(required = false, value = "lastCommentId") Long lastCommentId,
+                                                        @RequestParam(required = false, defaultValue = "10", value = "size") int size){
+
+        int limitedSize = Math.min(Math.max(size, 1), PagingConstants.MAX_COMMENT_SIZE);
+        return commentService.getCommentsByCursor(postId, lastCreatedAt, lastCommentId, limitedSize);
+    }
+
     @DeleteMapping("/posts/{postId}/comments/{commentId}")
     public HttpEntity<String> deleteComments(@Login User user,
                                               @PathVariable Long postId,
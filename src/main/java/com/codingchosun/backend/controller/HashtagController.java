@@ -0,0 +1,45 @@
+package com.codingchosun.backend.controller;
+
+import com.codingchosun.backend.component.cache.TrendingHashtagCache;
+import com.codingchosun.backend.component.index.HashtagSuggestIndex;
+import com.codingchosun.backend.constants.PagingConstants;
+import com.codingchosun.backend.response.HashtagSuggestResponse;
+import com.codingchosun.backend.response.TrendingHashtagResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+public class HashtagController {
+
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+    private final TrendingHashtagCache trendingHashtagCache;
+
+    // 해시태그 자동완성, db를 거치지 않고 메모리 인덱스에서 바로 찾음
+    @GetMapping("/suggest")
+    public HttpEntity<List<HashtagSuggestResponse>> suggest(@RequestParam(defaultValue = "") String prefix,
+                                                            @RequestParam(defaultValue = "" + PagingConstants.DEFAULT_SUGGEST_SIZE) int size)
+    {
+        int limitedSize = Math.min(Math.max(size, 1), PagingConstants.MAX_SUGGEST_SIZE);
+        return new ResponseEntity<>(hashtagSuggestIndex.suggest(prefix.strip(), limitedSize), HttpStatus.OK);
+    }
+
+    // 인기 해시태그, ACTIVE post가 많이 붙은 순서 (몇 분 주기로 갱신되는 스냅샷)
+    @GetMapping("/trending")
+    public HttpEntity<List<TrendingHashtagResponse>> trending(@RequestParam(defaultValue = "10") int size)
+    {
+        int limitedSize = Math.min(Math.max(size, 1), TrendingHashtagCache.MAX_SIZE);
+        return new ResponseEntity<>(trendingHashtagCache.getTop(limitedSize), HttpStatus.OK);
+    }
+}
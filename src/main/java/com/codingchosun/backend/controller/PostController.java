@@ -1,6 +1,10 @@
 package com.codingchosun.backend.controller;
 
 
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.cache.FeedJsonCache;
+import com.codingchosun.backend.component.event.PostEventBus;
+import com.codingchosun.backend.component.index.ActivePostIndex;
 import com.codingchosun.backend.constants.DeleteConstants;
 import com.codingchosun.backend.constants.PagingConstants;
 import com.codingchosun.backend.domain.Post;
@@ -31,14 +35,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -55,26 +65,40 @@ public class PostController {
     private final DataJpaUserRepository dataJpaUserRepository;
 
     private final DataJpaPostRepository dataJpaPostRepository;
+    private final PostEventBus postEventBus;
+    private final ActivePostIndex activePostIndex;
+    private final ContentVersions contentVersions;
+    private final FeedJsonCache feedJsonCache;
 
     //작성한 모임글의 내용만 가져오는 컨트롤러 todo 예외 처리
+    //버전이 같으면 post를 읽지 않고 304, 조회수는 따로 올리고 응답의 조회수는 다음 변경 때 갱신된다
     @GetMapping("/{postId}")
-    public PostAndComments getPost(@PathVariable Long postId) {
+    public HttpEntity<PostAndComments> getPost(@PathVariable Long postId, WebRequest webRequest) {
+        ContentVersions.Stamp stamp = contentVersions.post(postId);
+        String etag = stamp.etag("post-" + postId);
+        if (webRequest.checkNotModified(etag, stamp.getLastModified())) {
+            postService.recordView(postId);
+            return notModified();
+        }
+
         PostAndComments postAndComments = new PostAndComments();
 
         //게시글 넣기
         postAndComments.setPostResponse(postService.getPostResponse(postId));
 
         //댓글넣기
-        Pageable commentsPageable = PageRequest.of(PagingConstants.DEFAULT_COMMENT_PAGE_NO, PagingConstants.MAX_COMMENT_SIZE,
-                Sort.by(Sort.Direction.DESC, PagingConstants.DEFAULT_COMMENT_CRITERIA));
-        postAndComments.setPagedCommentResponseList(commentService.getPagedComments(commentsPageable, postId));
+        postAndComments.setPagedCommentResponseList(commentService.getLatestComments(postId, PagingConstants.MAX_COMMENT_SIZE));
 
         //이미지 url 넣기
         Pageable imageURLPageable = PageRequest.of(PagingConstants.DEFAULT_IMAGE_URL_PAGE_NO, PagingConstants.MAX_IMAGE_URL_SIZE,
                 Sort.by(Sort.Direction.ASC, PagingConstants.DEFAULT_IMAGE_URL_CRITERIA));
         postAndComments.setPagedImageResponseList(imageService.getImageURLList(imageURLPageable, postId));
 
-        return postAndComments;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .lastModified(stamp.getLastModified())
+                .body(postAndComments);
     }
 
     //게시글 작성
@@ -95,11 +119,53 @@ public class PostController {
         return new ApiResponse<>(HttpStatus.OK, true, registeredPost.getPostId());
     }
 
-    // 로그인 안 했을 때 글 보기
+    // 로그인 안 했을 때 글 보기, 피드 버전이 같으면 304, 아니면 짧게 캐시된 json을 그대로 보냄
     @GetMapping
-    public HttpEntity<NoLoginPostsHashtagsResponse> noLoginShowPosts(Pageable pageable)
+    public HttpEntity<byte[]> noLoginShowPosts(Pageable pageable, WebRequest webRequest)
+    {
+        ContentVersions.Stamp stamp = contentVersions.feed();
+        String etag = stamp.etag("feed");
+        if (webRequest.checkNotModified(etag, stamp.getLastModified())) {
+            return notModified();
+        }
+        byte[] json = feedJsonCache.get(stamp.getVersion(), pageable, () -> postService.noLoginGetPosts(pageable));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .lastModified(stamp.getLastModified())
+                .body(json);
+    }
+    // 기간 안에 시작하는 모임 보기 (from 이상 to 미만), 시작시간 순서 커서 페이징
+    @GetMapping(params = {"from", "to"})
+    public HttpEntity<PostSliceResponse> postsByStartTime(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                          @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+                                                          @RequestParam(required = false)
+                                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime lastStartTime,
+                                                          @RequestParam(required = false) Long lastPostId,
+                                                          @RequestParam(defaultValue = "10") int size)
+    {
+        int limitedSize = Math.min(Math.max(size, 1), PagingConstants.MAX_TIME_WINDOW_SIZE);
+        return new ResponseEntity<>(postService.getPostsByStartTime(from, to, lastStartTime, lastPostId, limitedSize), HttpStatus.OK);
+    }
+    // 인기글 보기 (조회, 댓글, 참가가 최근에 많은 순서)
+    @GetMapping("/hot")
+    public HttpEntity<PageResponse<NoLoginPostsResponse>> hotPosts(Pageable pageable)
+    {
+        return new ResponseEntity<>(postService.getHotPosts(pageable), HttpStatus.OK);
+    }
+    // 주변 모임 보기, radius는 km, after가 없으면 지금 이후에 시작하는 모임
+    @GetMapping("/nearby")
+    public HttpEntity<List<NearbyPostResponse>> nearbyPosts(@RequestParam double latitude,
+                                                            @RequestParam double longitude,
+                                                            @RequestParam(defaultValue = "3") double radius,
+                                                            @RequestParam(required = false)
+                                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime after,
+                                                            @RequestParam(defaultValue = "20") int size)
     {
-        return new ResponseEntity<>(postService.noLoginGetPosts(pageable), HttpStatus.OK);
+        LocalDateTime startAfter = after != null ? after : LocalDateTime.now();
+        int limitedSize = Math.min(Math.max(size, 1), PagingConstants.MAX_NEARBY_SIZE);
+        return new ResponseEntity<>(postService.getNearbyPosts(latitude, longitude, radius, startAfter, limitedSize), HttpStatus.OK);
     }
     // 로그인 했을 때 글 보기
     @GetMapping("/login")
@@ -132,6 +198,15 @@ public class PostController {
         return new ApiResponse<>(HttpStatus.OK, true, editedPost.getPostId());
     }
 
+    //post의 댓글, 참가자 변화를 SSE로 받기 (폴링 대신 사용)
+    @GetMapping(value = "/{postId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPost(@PathVariable Long postId) {
+        if (!activePostIndex.exists(postId)) {
+            throw new PostNotFoundFromDB("postId: " + postId + "를 찾지 못했습니다");
+        }
+        return postEventBus.subscribe(postId);
+    }
+
     //post의 참가자 확인
     @GetMapping("/{postId}/participant")
     public List<UserDTO> getAllParticipants(@PathVariable Long postId){
@@ -205,12 +280,21 @@ public class PostController {
 
 
     @GetMapping("/research")
-    public HttpEntity<Page<ResearchPostResponse>> researchPost(@RequestParam(value = "researchQuery", required = false, defaultValue = "") String researchQuery,
+    public HttpEntity<PageResponse<ResearchPostResponse>> researchPost(@RequestParam(value = "researchQuery", required = false, defaultValue = "") String researchQuery,
                                                                Pageable pageable) {
 
         return new ResponseEntity<>(postService.researchPost(researchQuery, pageable), HttpStatus.OK);
     }
 
+    // 검색 결과와 함께 결과 전체에서 많이 붙은 해시태그 집계
+    @GetMapping(value = "/research", params = "facets=true")
+    public HttpEntity<ResearchFacetResponse> researchPostWithFacets(@RequestParam(value = "researchQuery", required = false, defaultValue = "") String researchQuery,
+                                                                    @RequestParam(defaultValue = "" + PagingConstants.DEFAULT_FACET_SIZE) int facetSize,
+                                                                    Pageable pageable) {
+        int limitedFacetSize = Math.min(Math.max(facetSize, 1), PagingConstants.MAX_FACET_SIZE);
+        return new ResponseEntity<>(postService.researchPostWithFacets(researchQuery, pageable, limitedFacetSize), HttpStatus.OK);
+    }
+
     @PostMapping("/{postId}/delete")
     public HttpEntity<ApiResponse<String>> deletePost(@PathVariable Long postId,
                                                       @AuthenticationPrincipal UserDetails userDetails){
@@ -237,6 +321,13 @@ public class PostController {
     }
 
 
+    //ETag, Last-Modified는 checkNotModified가 이미 넣었다
+    private <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
     public User getUserFromUserDetails(UserDetails userDetails){
         return dataJpaUserRepository.findByLoginId(userDetails.getUsername());
     }
@@ -1,8 +1,7 @@
 package com.codingchosun.backend.controller;
 
-import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.component.cache.ContentVersions;
 import com.codingchosun.backend.domain.User;
-import com.codingchosun.backend.exception.invalidrequest.DeletedUserException;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.request.ProfileResponse;
 import com.codingchosun.backend.request.UserUpdateRequest;
@@ -11,6 +10,7 @@ import com.codingchosun.backend.service.UserUpdateService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +19,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 public class ProfileController {
@@ -27,20 +28,30 @@ public class ProfileController {
     private final ProfileService profileService;
     private final UserUpdateService userUpdateService;
     private final DataJpaUserRepository userRepository;
+    private final ContentVersions contentVersions;
     @Autowired
-    public ProfileController(ProfileService profileService, UserUpdateService userUpdateService, DataJpaUserRepository userRepository) {
+    public ProfileController(ProfileService profileService, UserUpdateService userUpdateService, DataJpaUserRepository userRepository,
+                             ContentVersions contentVersions) {
         this.profileService = profileService;
         this.userUpdateService = userUpdateService;
         this.userRepository = userRepository;
+        this.contentVersions = contentVersions;
     }
 
-    //프로필페이지 보내주는 매핑
+    //프로필페이지 보내주는 매핑, 프로필 버전이 같으면 304
     @GetMapping("/profile/{loginId}")
     @ResponseBody
-    public ProfileResponse viewProfile(@PathVariable String loginId, Model model) {
-        User user = userRepository.findByStateAndLoginId(StateCode.ACTIVE, loginId);
-        if(user == null) {throw new DeletedUserException("탈퇴된 유저 입니다.");}
-        return profileService.getProfile(loginId);
+    public HttpEntity<ProfileResponse> viewProfile(@PathVariable String loginId, Model model, WebRequest webRequest) {
+        ContentVersions.Stamp stamp = contentVersions.profile(loginId);
+        String etag = stamp.etag("profile");
+        if (webRequest.checkNotModified(etag, stamp.getLastModified())) {
+            return notModified();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .lastModified(stamp.getLastModified())
+                .body(profileService.getProfile(loginId));
     }
 
     //프로필수정 매핑
@@ -58,6 +69,13 @@ public class ProfileController {
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
+    //ETag, Last-Modified는 checkNotModified가 이미 넣었다
+    private <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(CacheControl.noCache())
+                .build();
+    }
+
     public User getUserFromUserDetails(UserDetails userDetails){
         return userRepository.findByLoginId(userDetails.getUsername());
     }
@@ -8,6 +8,7 @@ import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.request.UserValidationRequest;
 import com.codingchosun.backend.response.ApiResponse;
 import com.codingchosun.backend.response.UserDTO;
+import com.codingchosun.backend.response.ValidateReceiptResponse;
 import com.codingchosun.backend.service.PostService;
 import com.codingchosun.backend.service.PostUserService;
 import com.codingchosun.backend.service.ValidateService;
@@ -53,7 +54,7 @@ public class ValidateControllerV2 {
     }
 
     @PostMapping("/{postId}")
-    public ApiResponse<Integer> validateParticipants(@RequestBody Map<String, List<UserValidationRequest>> userValidationRequestMap,
+    public ApiResponse<ValidateReceiptResponse> validateParticipants(@RequestBody Map<String, List<UserValidationRequest>> userValidationRequestMap,
                                                      @PathVariable Long postId,
                                                      @AuthenticationPrincipal UserDetails userDetails) {
 
@@ -67,10 +68,16 @@ public class ValidateControllerV2 {
         Post post = postService.getPost(postId)
                 .orElseThrow(() -> new PostNotFoundFromDB("포스트를 못 찾겠습니다"));
 
-        //평가하기
-        int cnt = validateService.validateUser(post, user, userValidationRequestMap.get("userValidationRequestList"));
+        //평가하기, 점수는 나중에 반영되므로 접수증을 돌려준다
+        ValidateReceiptResponse receipt = validateService.validateUser(post, user, userValidationRequestMap.get("userValidationRequestList"));
 
-        return new ApiResponse<>(HttpStatus.OK,true,cnt);   //평가한 개수 리턴
+        return new ApiResponse<>(HttpStatus.OK,true,receipt);
+    }
+
+    //평가 점수 반영 여부 조회
+    @GetMapping("/receipts/{receiptId}")
+    public ApiResponse<ValidateReceiptResponse> getValidateReceipt(@PathVariable String receiptId) {
+        return new ApiResponse<>(HttpStatus.OK, true, validateService.getValidateReceipt(receiptId));
     }
 
     public User getUserFromUserDetails(UserDetails userDetails){
@@ -8,7 +8,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @Setter
-@Table
+@Table(indexes = @Index(name = "idx_comment_post_created", columnList = "postId, createdAt, commentId"))   //커서 페이징용
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,26 @@
+package com.codingchosun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//해시태그별 사용 통계, post_hash, user_hash를 매번 group by 하지 않으려고 쓰기할때 같이 누적한다
+@Entity
+@Getter @Setter
+@Table(indexes = @Index(name = "idx_hashtag_stat_active", columnList = "activePostCount"))
+@NoArgsConstructor
+public class HashtagStat {
+
+    @Id
+    private Long hashtagId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "hashtagId")
+    private Hashtag hashtag;
+
+    private long activePostCount;   //이 해시태그가 붙은 ACTIVE post 수
+
+    private long followerCount;     //이 해시태그를 관심사로 등록한 유저 수
+}
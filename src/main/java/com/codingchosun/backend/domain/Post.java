@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 
 import java.time.LocalDateTime;
@@ -16,7 +18,7 @@ import java.util.List;
 
 @Entity
 @Getter @Setter
-@Table
+@Table(indexes = @Index(name = "idx_post_state_start", columnList = "stateCode, startTime, postId"))
 @NoArgsConstructor
 public class Post {
 
@@ -41,7 +43,13 @@ public class Post {
 
     private  Long viewCount;
 
+    //모임 장소, 없을 수 있음
+    private Double latitude;
+
+    private Double longitude;
+
     @OneToMany(mappedBy = "post")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "postHashCollection")
     private List<PostHash> postHashes;
 
     @OneToMany(mappedBy = "post")
@@ -0,0 +1,59 @@
+package com.codingchosun.backend.domain;
+
+import com.codingchosun.backend.constants.ScoreOutboxStatus;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/*
+*   평가로 생긴 매너 점수 변화량을 쌓아두는 테이블 (추가만 하고 내용은 안 바꿈, status만 바뀜)
+*   ScoreOutboxScheduler가 PENDING 행을 모아서 유저별로 한번에 점수를 반영한다
+*   한번의 평가 요청으로 생긴 행들은 같은 receiptId를 가진다
+*/
+@Entity
+@Getter
+@Table(indexes = {
+        @Index(name = "idx_score_outbox_status", columnList = "status, outboxId"),
+        @Index(name = "idx_score_outbox_receipt", columnList = "receiptId")
+})
+@NoArgsConstructor
+public class ScoreOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long outboxId;
+
+    @Column(nullable = false, length = 36)
+    private String receiptId;
+
+    private Long postId;
+
+    private Long fromUserId;
+
+    @Column(nullable = false)
+    private Long toUserId;
+
+    private int delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ScoreOutboxStatus status;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime appliedAt;
+
+    @Builder
+    public ScoreOutbox(String receiptId, Long postId, Long fromUserId, Long toUserId, int delta) {
+        this.receiptId = receiptId;
+        this.postId = postId;
+        this.fromUserId = fromUserId;
+        this.toUserId = toUserId;
+        this.delta = delta;
+        this.status = ScoreOutboxStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -3,12 +3,16 @@ package com.codingchosun.backend.domain;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 @Entity
 @Getter @Setter
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "template")
 public class Template {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,6 +10,9 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 
 import java.time.LocalDate;
@@ -19,6 +22,9 @@ import java.util.List;
 @Entity
 @Getter @Setter
 @Table
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Generated
 @NoArgsConstructor
 @AllArgsConstructor
@@ -112,9 +118,9 @@ public class User {
     public int calMannerScore(int score) {
         this.score += score;
         if (this.score > 100) {
-            score = 100;
+            this.score = 100;
         } else if (this.score < 0) {
-            score = 0;
+            this.score = 0;
         }
         return this.score;
     }
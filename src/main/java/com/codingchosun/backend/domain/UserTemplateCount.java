@@ -0,0 +1,28 @@
+package com.codingchosun.backend.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+//유저가 받은 평가 템플릿별 횟수, validate를 매번 세지 않으려고 따로 누적한다
+@Entity
+@Getter @Setter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_user_template", columnNames = {"userId", "templateId"}))
+@NoArgsConstructor
+public class UserTemplateCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "userId")
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "templateId")
+    private Template template;
+
+    private long count;
+}
@@ -3,6 +3,8 @@ package com.codingchosun.backend.exception;
 import com.codingchosun.backend.constants.ExceptionConstants;
 import com.codingchosun.backend.exception.emptyrequest.EmptyRequestException;
 import com.codingchosun.backend.exception.invalidrequest.InvalidEditorException;
+import com.codingchosun.backend.exception.invalidrequest.InvalidLocationException;
+import com.codingchosun.backend.exception.invalidtime.InvalidTimeException;
 import com.codingchosun.backend.exception.invalidtime.TimeBeforeCurrentException;
 import com.codingchosun.backend.exception.notfoundfromdb.EntityNotFoundFromDB;
 import com.codingchosun.backend.response.ApiResponse;
@@ -60,6 +62,14 @@ public class GlobalControllerAdvice {
         return new ApiResponse<>(HttpStatus.BAD_REQUEST, false, exceptionDto);
     }
 
+    @ExceptionHandler( { InvalidTimeException.class } )
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected ApiResponse<ExceptionDto> invalidTimeExceptionHandler(InvalidTimeException e) {
+        ExceptionDto exceptionDto = new ExceptionDto("잘못된 시간 범위입니다.", e.getMessage());
+        log.warn(ExceptionConstants.PROCESSED);
+        return new ApiResponse<>(HttpStatus.BAD_REQUEST, false, exceptionDto);
+    }
+
     @ExceptionHandler( { MissingValueException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     protected ApiResponse<ExceptionDto> wrongRequestEntity(MissingValueException e) {
@@ -92,6 +102,14 @@ public class GlobalControllerAdvice {
         return new ApiResponse<>(HttpStatus.BAD_REQUEST, false, exceptionDto);
     }
 
+    @ExceptionHandler( {InvalidLocationException.class} )
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    protected ApiResponse<ExceptionDto> invalidLocationException(InvalidLocationException e) {
+        ExceptionDto exceptionDto = new ExceptionDto("위치 값이 잘못되었습니다.", e.getMessage());
+        log.warn(ExceptionConstants.PROCESSED);
+        return new ApiResponse<>(HttpStatus.BAD_REQUEST, false, exceptionDto);
+    }
+
     @Data
     @AllArgsConstructor
     public static class ExceptionDto{
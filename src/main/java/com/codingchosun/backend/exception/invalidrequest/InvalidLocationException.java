@@ -0,0 +1,10 @@
+package com.codingchosun.backend.exception.invalidrequest;
+
+/*
+* 위도, 경도, 반경 값이 범위를 벗어났을때 발생하는 예외
+*/
+public class InvalidLocationException extends RuntimeException {
+    public InvalidLocationException(String message) {
+        super(message);
+    }
+}
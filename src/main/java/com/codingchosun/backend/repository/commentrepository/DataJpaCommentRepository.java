@@ -4,6 +4,7 @@ package com.codingchosun.backend.repository.commentrepository;
 import com.codingchosun.backend.domain.Comment;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.User;
+import com.codingchosun.backend.response.CommentResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -11,10 +12,35 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface DataJpaCommentRepository extends JpaRepository<Comment, Long> {
     Page<Comment> findAllByPost_PostId(Long postId, Pageable pageable);
+
+    //count 쿼리 없이 content만 가져옴, 개수는 CommentCountCache 사용
+    //작성자 정보까지 한번에 join해서 dto로 받는다
+    @Query("SELECT new com.codingchosun.backend.response.CommentResponse(c.commentId, c.content, c.createdAt, u.userId, u.nickname, u.loginId) " +
+            "FROM Comment c JOIN c.user u WHERE c.post.postId = :postId")
+    List<CommentResponse> findResponsesByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    long countByPost_PostId(Long postId);
+
+    //커서 페이징 (created_at, comment_id) 내림차순, idx_comment_post_created 인덱스를 그대로 탄다
+    @Query("SELECT new com.codingchosun.backend.response.CommentResponse(c.commentId, c.content, c.createdAt, u.userId, u.nickname, u.loginId) " +
+            "FROM Comment c JOIN c.user u WHERE c.post.postId = :postId " +
+            "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<CommentResponse> findFirstSliceByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    @Query("SELECT new com.codingchosun.backend.response.CommentResponse(c.commentId, c.content, c.createdAt, u.userId, u.nickname, u.loginId) " +
+            "FROM Comment c JOIN c.user u WHERE c.post.postId = :postId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :commentId)) " +
+            "ORDER BY c.createdAt DESC, c.commentId DESC")
+    List<CommentResponse> findNextSliceByPostId(@Param("postId") Long postId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("commentId") Long commentId,
+                                                Pageable pageable);
+
     List<Comment> findAllByUser_UserId(Long userId, Pageable pageable);
     int deleteCommentByPost_PostIdAndCommentId(Long postId, Long commentId);
 
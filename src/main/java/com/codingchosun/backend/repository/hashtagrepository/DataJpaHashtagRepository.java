@@ -3,7 +3,10 @@ package com.codingchosun.backend.repository.hashtagrepository;
 
 import com.codingchosun.backend.domain.Hashtag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
@@ -11,9 +14,15 @@ import java.util.Optional;
 
 public interface DataJpaHashtagRepository extends JpaRepository<Hashtag, Long> {
     List<Hashtag> findByHashtagIdIn(List<Long> hashtagIds);
+    //이름으로 찾는 조회는 쿼리 캐시 사용, hashtag 테이블이 바뀌면 hibernate가 알아서 무효화
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Hashtag> findByHashtagName(String hashtagName);
     @Query(value = "SELECT * FROM hashtag ORDER BY RAND() LIMIT :limit", nativeQuery = true)
     List<Hashtag> findRandomHashtags(@Param("limit") int limit);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Hashtag> findAllByHashtagNameIn(List<String> hashNames);
+
+    @Query("SELECT h.hashtagName AS hashtagName, SIZE(h.hashtags) + SIZE(h.userHashes) AS usageCount FROM Hashtag h")
+    List<HashtagUsage> findAllUsages();
 }
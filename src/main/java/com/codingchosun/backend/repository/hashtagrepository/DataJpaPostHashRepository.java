@@ -1,18 +1,28 @@
 package com.codingchosun.backend.repository.hashtagrepository;
 
+import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.Hashtag;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.PostHash;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface DataJpaPostHashRepository extends JpaRepository<PostHash, Long> {
+public interface DataJpaPostHashRepository extends JpaRepository<PostHash, Long>, DataJpaPostHashRepositoryCustom {
     List<PostHash> findAllByPost_PostId(Long postId);
     List<PostHash> findAllByHashtag_HashtagId(Long hashtagId);
     List<PostHash> findAllByHashtag_HashtagName(String hashtagName);
     Optional<PostHash> findByPostAndHashtag(Post post, Hashtag hashtag);
 
     List<PostHash> findAllByHashtagIn(List<Hashtag> hashtags);
+
+    @Query("SELECT ph.post.postId AS postId, ph.hashtag.hashtagId AS hashtagId FROM PostHash ph WHERE ph.post.stateCode = :stateCode")
+    List<PostHashtagId> findHashtagIdsByPostStateCode(@Param("stateCode") StateCode stateCode);
+
+    @Query("SELECT ph.post.postId AS postId, ph.hashtag.hashtagId AS hashtagId FROM PostHash ph WHERE ph.post.postId IN :postIds")
+    List<PostHashtagId> findHashtagIdsByPostIdIn(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,8 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import java.util.Collection;
+
+public interface DataJpaPostHashRepositoryCustom {
+    //post에 해시태그들을 insert 한번(batch)으로 붙인다
+    void insertAll(Long postId, Collection<Long> hashtagIds);
+}
@@ -0,0 +1,37 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import com.codingchosun.backend.component.cache.SecondLevelCacheEvictor;
+import com.codingchosun.backend.domain.Post;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.List;
+
+/*
+*   PostHash id가 IDENTITY라서 save()로는 insert가 하나씩 나가므로 jdbc batch로 넣는다
+*   영속성 컨텍스트의 Post.postHashes에는 반영되지 않음, 2차 캐시의 Post.postHashes는 지운다
+*/
+@RequiredArgsConstructor
+public class DataJpaPostHashRepositoryImpl implements DataJpaPostHashRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO post_hash (post_id, hashtag_id) VALUES (:postId, :hashtagId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Override
+    public void insertAll(Long postId, Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] params = hashtagIds.stream()
+                .map(hashtagId -> new MapSqlParameterSource()
+                        .addValue("postId", postId)
+                        .addValue("hashtagId", hashtagId))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, params);
+        secondLevelCacheEvictor.evictCollections(Post.class.getName() + ".postHashes", List.of(postId));
+    }
+}
@@ -4,13 +4,18 @@ package com.codingchosun.backend.repository.hashtagrepository;
 import com.codingchosun.backend.domain.UserHash;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Transactional
 @Repository
-public interface DataJpaUserHashRepository extends JpaRepository<UserHash, Long> {
+public interface DataJpaUserHashRepository extends JpaRepository<UserHash, Long>, DataJpaUserHashRepositoryCustom {
     List<UserHash> findHashtagsByUser_UserId(Long userId);
     UserHash findHashtagsByHashtag_HashtagIdAndUser_UserId(Long hashtagId, Long userId);
+
+    @Query("SELECT uh FROM UserHash uh JOIN FETCH uh.hashtag WHERE uh.user.userId = :userId")
+    List<UserHash> findWithHashtagByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+
+/*
+*   UserHash id가 IDENTITY라서 save()로는 insert가 하나씩 나가므로 jdbc batch로 넣는다
+*   영속성 컨텍스트의 User.userHashes에는 반영되지 않음
+*/
+@RequiredArgsConstructor
+public class DataJpaUserHashRepositoryImpl implements DataJpaUserHashRepositoryCustom {
+
+    private static final String INSERT_SQL = "INSERT INTO user_hash (user_id, hashtag_id) VALUES (:userId, :hashtagId)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(Long userId, Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] params = hashtagIds.stream()
+                .map(hashtagId -> new MapSqlParameterSource()
+                        .addValue("userId", userId)
+                        .addValue("hashtagId", hashtagId))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_SQL, params);
+    }
+}
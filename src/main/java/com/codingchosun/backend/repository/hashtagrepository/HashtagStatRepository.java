@@ -0,0 +1,18 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import com.codingchosun.backend.domain.HashtagStat;
+import com.codingchosun.backend.response.TrendingHashtagResponse;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface HashtagStatRepository extends JpaRepository<HashtagStat, Long>, HashtagStatRepositoryCustom {
+
+    @Query("SELECT new com.codingchosun.backend.response.TrendingHashtagResponse(h.hashtagId, h.hashtagName, s.activePostCount, s.followerCount) " +
+            "FROM HashtagStat s JOIN s.hashtag h " +
+            "WHERE s.activePostCount > 0 " +
+            "ORDER BY s.activePostCount DESC, s.followerCount DESC, h.hashtagId ASC")
+    List<TrendingHashtagResponse> findTrending(Pageable pageable);
+}
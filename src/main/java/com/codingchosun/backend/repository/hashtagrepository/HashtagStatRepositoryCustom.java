@@ -0,0 +1,10 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import java.util.Collection;
+
+public interface HashtagStatRepositoryCustom {
+    //hashtagIds에 나온 횟수 * delta 만큼 더한다 (행이 없으면 만들고, 0 밑으로는 내려가지 않음)
+    void addActivePostCounts(Collection<Long> hashtagIds, int delta);
+
+    void addFollowerCounts(Collection<Long> hashtagIds, int delta);
+}
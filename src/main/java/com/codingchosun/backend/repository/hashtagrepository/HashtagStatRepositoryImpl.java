@@ -0,0 +1,54 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+*   해시태그 통계는 여러 글/유저가 동시에 같은 해시태그를 건드리므로
+*   엔티티를 읽고 저장하지 않고 upsert 문 안에서 count + ? 로 더한다
+*   호출한 쪽 트랜잭션에 같이 묶여서 post_hash, user_hash 변경과 함께 커밋된다
+*/
+@RequiredArgsConstructor
+public class HashtagStatRepositoryImpl implements HashtagStatRepositoryCustom {
+
+    private static final String ADD_ACTIVE_POST_COUNT_SQL =
+            "INSERT INTO hashtag_stat (hashtag_id, active_post_count, follower_count) VALUES (:hashtagId, GREATEST(:delta, 0), 0) " +
+            "ON DUPLICATE KEY UPDATE active_post_count = GREATEST(active_post_count + :delta, 0)";
+    private static final String ADD_FOLLOWER_COUNT_SQL =
+            "INSERT INTO hashtag_stat (hashtag_id, active_post_count, follower_count) VALUES (:hashtagId, 0, GREATEST(:delta, 0)) " +
+            "ON DUPLICATE KEY UPDATE follower_count = GREATEST(follower_count + :delta, 0)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addActivePostCounts(Collection<Long> hashtagIds, int delta) {
+        batchAdd(ADD_ACTIVE_POST_COUNT_SQL, hashtagIds, delta);
+    }
+
+    @Override
+    public void addFollowerCounts(Collection<Long> hashtagIds, int delta) {
+        batchAdd(ADD_FOLLOWER_COUNT_SQL, hashtagIds, delta);
+    }
+
+    private void batchAdd(String sql, Collection<Long> hashtagIds, int delta) {
+        if (hashtagIds.isEmpty() || delta == 0) {
+            return;
+        }
+        //같은 해시태그는 한 행으로 합치고, hashtagId 순서로 보내서 락 순서를 맞춘다
+        Map<Long, Integer> deltas = new TreeMap<>();
+        for (Long hashtagId : hashtagIds) {
+            deltas.merge(hashtagId, delta, Integer::sum);
+        }
+        MapSqlParameterSource[] params = deltas.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("hashtagId", entry.getKey())
+                        .addValue("delta", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(sql, params);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+//해시태그 이름과 사용 횟수(글 + 유저에 붙은 수) projection
+public interface HashtagUsage {
+    String getHashtagName();
+    Long getUsageCount();
+}
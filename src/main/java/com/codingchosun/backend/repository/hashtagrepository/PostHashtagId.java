@@ -0,0 +1,7 @@
+package com.codingchosun.backend.repository.hashtagrepository;
+
+//post id, hashtag id 쌍만 필요할때 쓰는 projection
+public interface PostHashtagId {
+    Long getPostId();
+    Long getHashtagId();
+}
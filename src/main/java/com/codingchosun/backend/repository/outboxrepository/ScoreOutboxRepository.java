@@ -0,0 +1,30 @@
+package com.codingchosun.backend.repository.outboxrepository;
+
+import com.codingchosun.backend.constants.ScoreOutboxStatus;
+import com.codingchosun.backend.domain.ScoreOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ScoreOutboxRepository extends JpaRepository<ScoreOutbox, Long> {
+
+    //다른 인스턴스가 잡고 있는 행은 건너뛰고 오래된 순서로 가져온다
+    @Query(value = "SELECT * FROM score_outbox WHERE status = 'PENDING' ORDER BY outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ScoreOutbox> findPendingForUpdate(@Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScoreOutbox o SET o.status = :status, o.appliedAt = :appliedAt WHERE o.outboxId IN :outboxIds")
+    int updateStatus(@Param("outboxIds") Collection<Long> outboxIds,
+                     @Param("status") ScoreOutboxStatus status,
+                     @Param("appliedAt") LocalDateTime appliedAt);
+
+    long countByReceiptId(String receiptId);
+
+    long countByReceiptIdAndStatus(String receiptId, ScoreOutboxStatus status);
+}
@@ -0,0 +1,12 @@
+package com.codingchosun.backend.repository.postrepository;
+
+import java.time.LocalDateTime;
+
+//ActivePostIndex를 채울때 쓰는 projection
+public interface ActivePostSummary {
+    Long getPostId();
+    LocalDateTime getCreatedAt();
+    Long getAuthorId();
+    Integer getAuthorScore();
+    Integer getParticipantCount();
+}
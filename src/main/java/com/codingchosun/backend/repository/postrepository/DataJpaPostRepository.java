@@ -6,7 +6,9 @@ import com.codingchosun.backend.domain.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,8 +21,30 @@ public interface DataJpaPostRepository extends JpaRepository<Post, Long>, DataJp
     @Query("SELECT p FROM Post p WHERE p.stateCode = 'ACTIVE' ORDER BY p.createdAt DESC")
     Page<Post> findAllActiveByOrderByCreatedAtDesc(Pageable pageable);
 
+    //엔티티를 읽지 않고 조회수만 올림
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.postId = :postId")
+    int increaseViewCount(@Param("postId") Long postId);
+
     List<Post> findAllByStartTimeBeforeAndStateCode(LocalDateTime startTime, StateCode stateCode);
 
+    //시작시간 범위 검색, (stateCode, startTime, postId) 인덱스 순서 그대로 읽는다
+    @Query("SELECT p FROM Post p WHERE p.stateCode = :stateCode AND p.startTime >= :from AND p.startTime < :to " +
+            "ORDER BY p.startTime ASC, p.postId ASC")
+    List<Post> findFirstSliceByStartTime(@Param("stateCode") StateCode stateCode,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.stateCode = :stateCode AND p.startTime < :to " +
+            "AND (p.startTime > :lastStartTime OR (p.startTime = :lastStartTime AND p.postId > :lastPostId)) " +
+            "ORDER BY p.startTime ASC, p.postId ASC")
+    List<Post> findNextSliceByStartTime(@Param("stateCode") StateCode stateCode,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("lastStartTime") LocalDateTime lastStartTime,
+                                        @Param("lastPostId") Long lastPostId,
+                                        Pageable pageable);
+
     List<Post> findAllByEndTimeBeforeAndStateCode(LocalDateTime EndTime, StateCode stateCode);
 
     Page<Post> findAllByTitleContainingAndStateCode(String title, Pageable pageable, StateCode stateCode);
@@ -29,4 +53,16 @@ public interface DataJpaPostRepository extends JpaRepository<Post, Long>, DataJp
 
     Page<Post> findAllByStateCode(Pageable pageable, StateCode stateCode);
 
+    @Query("SELECT p.postId AS postId, p.createdAt AS createdAt, u.userId AS authorId, u.score AS authorScore, " +
+            "SIZE(p.postUsers) AS participantCount FROM Post p JOIN p.user u WHERE p.stateCode = :stateCode")
+    List<ActivePostSummary> findSummariesByStateCode(@Param("stateCode") StateCode stateCode);
+
+    @Query("SELECT p.postId AS postId, p.createdAt AS createdAt, p.viewCount AS viewCount, " +
+            "SIZE(p.comments) AS commentCount, SIZE(p.postUsers) AS participantCount FROM Post p WHERE p.stateCode = :stateCode")
+    List<HotPostSummary> findHotSummariesByStateCode(@Param("stateCode") StateCode stateCode);
+
+    @Query("SELECT p.postId AS postId, p.latitude AS latitude, p.longitude AS longitude, p.startTime AS startTime " +
+            "FROM Post p WHERE p.stateCode = :stateCode AND p.latitude IS NOT NULL AND p.longitude IS NOT NULL")
+    List<PostLocation> findLocationsByStateCode(@Param("stateCode") StateCode stateCode);
+
 }
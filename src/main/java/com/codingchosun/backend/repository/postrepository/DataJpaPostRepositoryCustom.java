@@ -1,6 +1,7 @@
 package com.codingchosun.backend.repository.postrepository;
 
 import com.codingchosun.backend.domain.Post;
+import com.codingchosun.backend.response.HashtagFacetResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,4 +11,6 @@ public interface DataJpaPostRepositoryCustom {
     Page<Post> findPostsByHashTagId(List<Long> hashTagId, Pageable pageable);
 
     Page<Post> findPostsByResearchQuery(List<String> titleQuery, List<String> hashQuery, Pageable pageable);
+
+    List<HashtagFacetResponse> findHashtagFacetsByResearchQuery(List<String> titleQuery, List<String> hashQuery, int limit);
 }
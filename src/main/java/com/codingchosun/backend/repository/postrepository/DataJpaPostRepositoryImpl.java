@@ -5,7 +5,9 @@ import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.QHashtag;
 import com.codingchosun.backend.domain.QPost;
 import com.codingchosun.backend.domain.QPostHash;
+import com.codingchosun.backend.response.HashtagFacetResponse;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
@@ -46,31 +48,15 @@ public class DataJpaPostRepositoryImpl implements DataJpaPostRepositoryCustom {
                     .from(post)
                     .innerJoin(postHash)
                     .on(post.eq(postHash.post))
-                    .where(postHash.hashtag.hashtagId.in(hashTagId));
+                    .where(postHash.hashtag.hashtagId.in(hashTagId)
+                    .and(post.stateCode.eq(StateCode.ACTIVE)));
 
             return PageableExecutionUtils.getPage(contents, pageable, countQuery::fetchOne);
     }
 
     @Override
     public Page<Post> findPostsByResearchQuery(List<String> titleQuery, List<String> hashQuery, Pageable pageable) {
-        BooleanBuilder builder = new BooleanBuilder();
-        for (String t : titleQuery) {
-            builder.and(post.title.contains(t));
-        }
-
-        if (hashQuery != null && !hashQuery.isEmpty()) {
-            for (String h : hashQuery) {
-                BooleanExpression hashExpression = JPAExpressions
-                        .selectOne()
-                        .from(postHash)
-                        .innerJoin(postHash.hashtag, hashtag)
-                        .where(postHash.post.eq(post)
-                                .and(hashtag.hashtagName.eq(h))
-                                .and(post.stateCode.eq(StateCode.ACTIVE)))
-                        .exists();
-                builder.and(hashExpression); // 모든 해시태그 조건을 and로 결합
-            }
-        }
+        BooleanBuilder builder = researchCondition(titleQuery, hashQuery);
 
         List<Post> contents = jpaQueryFactory.selectFrom(post)
                 .innerJoin(postHash).on(post.postId.eq(postHash.post.postId))
@@ -93,4 +79,50 @@ public class DataJpaPostRepositoryImpl implements DataJpaPostRepositoryCustom {
 
 
     }
+
+    //검색 결과 전체에 붙은 해시태그를 group by 한번으로 집계, 검색에 쓴 해시태그는 제외
+    @Override
+    public List<HashtagFacetResponse> findHashtagFacetsByResearchQuery(List<String> titleQuery, List<String> hashQuery, int limit) {
+        BooleanBuilder builder = researchCondition(titleQuery, hashQuery);
+        if (hashQuery != null && !hashQuery.isEmpty()) {
+            builder.and(hashtag.hashtagName.notIn(hashQuery));
+        }
+
+        return jpaQueryFactory
+                .select(Projections.constructor(HashtagFacetResponse.class,
+                        hashtag.hashtagId, hashtag.hashtagName, postHash.post.postId.count()))
+                .from(postHash)
+                .innerJoin(postHash.post, post)
+                .innerJoin(postHash.hashtag, hashtag)
+                .where(builder)
+                .groupBy(hashtag.hashtagId, hashtag.hashtagName)
+                .orderBy(postHash.post.postId.count().desc(), hashtag.hashtagId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    //검색 조건, 글 목록과 해시태그 집계가 같은 조건을 쓴다 (jmh 벤치마크에서도 사용)
+    static BooleanBuilder researchCondition(List<String> titleQuery, List<String> hashQuery) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(post.stateCode.eq(StateCode.ACTIVE));
+        for (String t : titleQuery) {
+            builder.and(post.title.contains(t));
+        }
+
+        if (hashQuery != null && !hashQuery.isEmpty()) {
+            QPostHash subPostHash = new QPostHash("subPostHash");
+            QHashtag subHashtag = new QHashtag("subHashtag");
+            for (String h : hashQuery) {
+                BooleanExpression hashExpression = JPAExpressions
+                        .selectOne()
+                        .from(subPostHash)
+                        .innerJoin(subPostHash.hashtag, subHashtag)
+                        .where(subPostHash.post.eq(post)
+                                .and(subHashtag.hashtagName.eq(h)))
+                        .exists();
+                builder.and(hashExpression); // 모든 해시태그 조건을 and로 결합
+            }
+        }
+        return builder;
+    }
 }
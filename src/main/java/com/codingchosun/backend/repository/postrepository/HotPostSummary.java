@@ -0,0 +1,12 @@
+package com.codingchosun.backend.repository.postrepository;
+
+import java.time.LocalDateTime;
+
+//HotPostLeaderboard를 채울때 쓰는 projection
+public interface HotPostSummary {
+    Long getPostId();
+    LocalDateTime getCreatedAt();
+    Long getViewCount();
+    Integer getCommentCount();
+    Integer getParticipantCount();
+}
@@ -0,0 +1,11 @@
+package com.codingchosun.backend.repository.postrepository;
+
+import java.time.LocalDateTime;
+
+//GeoPostIndex를 채울때 쓰는 projection
+public interface PostLocation {
+    Long getPostId();
+    Double getLatitude();
+    Double getLongitude();
+    LocalDateTime getStartTime();
+}
@@ -14,6 +14,7 @@ import java.util.Optional;
 @Repository
 public interface DataJpaPostUserRepository extends JpaRepository<PostUser, Long> {
     List<PostUser> findAllByPost_PostId(Long postId);
+    long countByPost_PostId(Long postId);
     List<PostUser> findAllByUser_UserId(Long userId);
 
     List<PostUser> findAllByUser(User user);
@@ -0,0 +1,30 @@
+package com.codingchosun.backend.repository.templaterepository;
+
+import com.codingchosun.backend.domain.UserTemplateCount;
+import com.codingchosun.backend.response.TemplateCountResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserTemplateCountRepository extends JpaRepository<UserTemplateCount, Long> {
+
+    //(유저, 템플릿) 행이 없으면 1로 만들고 있으면 1 올린다
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "user_template_count"))  //2차 캐시 전체가 무효화되지 않도록 바뀌는 테이블 지정
+    @Query(value = "INSERT INTO user_template_count (user_id, template_id, count) VALUES (:userId, :templateId, 1) " +
+            "ON DUPLICATE KEY UPDATE count = count + 1", nativeQuery = true)
+    int increase(@Param("userId") Long userId, @Param("templateId") Long templateId);
+
+    //많이 받은 순서로 상위 n개
+    @Query("SELECT new com.codingchosun.backend.response.TemplateCountResponse(t.content, utc.count) " +
+            "FROM UserTemplateCount utc JOIN utc.template t " +
+            "WHERE utc.user.userId = :userId ORDER BY utc.count DESC, t.templateId ASC")
+    List<TemplateCountResponse> findTopByUserId(@Param("userId") Long userId, Pageable pageable);
+}
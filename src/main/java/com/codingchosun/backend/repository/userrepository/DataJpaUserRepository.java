@@ -5,11 +5,17 @@ import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.User;
 import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Transactional
 @Repository
-public interface DataJpaUserRepository extends JpaRepository<User,Long> {
+public interface DataJpaUserRepository extends JpaRepository<User,Long>, DataJpaUserRepositoryCustom {
     User findByLoginIdAndPassword(String loginId, String password);
     User findByLoginId(String loginId);
     User findByNickname(String nickName);
@@ -17,4 +23,11 @@ public interface DataJpaUserRepository extends JpaRepository<User,Long> {
     User findByNameAndEmail(String name, String email);
     User findByNameAndEmailAndLoginId(String name, String email, String loginId);
     User findByStateAndLoginId(StateCode state, String loginId);
+
+    //프로필 조회용, 유저와 해시태그를 한번에 가져온다
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.userHashes uh LEFT JOIN FETCH uh.hashtag WHERE u.loginId = :loginId")
+    Optional<User> findWithHashtagsByLoginId(@Param("loginId") String loginId);
+
+    @Query("SELECT u.loginId FROM User u WHERE u.userId IN :userIds")
+    List<String> findLoginIdsByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,11 @@
+package com.codingchosun.backend.repository.userrepository;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface DataJpaUserRepositoryCustom {
+    //userId별 점수 변화량을 db에서 바로 더한다 (0~100 사이로 자름)
+    void addScores(Map<Long, Integer> scoreDeltas);
+
+    Map<Long, Integer> findScoresByUserIds(Collection<Long> userIds);
+}
@@ -0,0 +1,59 @@
+package com.codingchosun.backend.repository.userrepository;
+
+import com.codingchosun.backend.component.cache.SecondLevelCacheEvictor;
+import com.codingchosun.backend.domain.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.*;
+
+/*
+*   매너 점수는 엔티티를 읽고 더해서 저장하면 동시에 평가될때 값이 덮어써지므로
+*   UPDATE 문 안에서 score + ? 로 더한다 (같은 유저 행은 db 락으로 순서대로 반영됨)
+*   영속성 컨텍스트에 있는 User의 score는 갱신되지 않으니 필요하면 findScoresByUserIds로 다시 읽을 것
+*   2차 캐시의 User도 갱신되지 않으므로 바꾼 유저는 캐시에서 지운다
+*/
+@RequiredArgsConstructor
+public class DataJpaUserRepositoryImpl implements DataJpaUserRepositoryCustom {
+
+    private static final int MIN_SCORE = 0;
+    private static final int MAX_SCORE = 100;
+    private static final String ADD_SCORE_SQL =
+            "UPDATE user SET score = LEAST(:max, GREATEST(:min, score + :delta)) WHERE user_id = :userId";
+    private static final String FIND_SCORES_SQL =
+            "SELECT user_id, score FROM user WHERE user_id IN (:userIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Override
+    public void addScores(Map<Long, Integer> scoreDeltas) {
+        if (scoreDeltas.isEmpty()) {
+            return;
+        }
+        //userId 순서로 보내서 동시에 여러 유저를 평가할때 락 순서를 맞춘다
+        MapSqlParameterSource[] params = new TreeMap<>(scoreDeltas).entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("max", MAX_SCORE)
+                        .addValue("min", MIN_SCORE)
+                        .addValue("delta", entry.getValue())
+                        .addValue("userId", entry.getKey()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(ADD_SCORE_SQL, params);
+        secondLevelCacheEvictor.evictEntities(User.class, scoreDeltas.keySet());
+    }
+
+    @Override
+    public Map<Long, Integer> findScoresByUserIds(Collection<Long> userIds) {
+        Map<Long, Integer> scores = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return scores;
+        }
+        jdbcTemplate.query(FIND_SCORES_SQL, new MapSqlParameterSource("userIds", userIds),
+                rs -> {
+                    scores.put(rs.getLong("user_id"), rs.getInt("score"));
+                });
+        return scores;
+    }
+}
@@ -6,8 +6,12 @@ import com.codingchosun.backend.domain.User;
 import com.codingchosun.backend.domain.Validate;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ValidateRepository extends JpaRepository<Validate, Long> {
     Optional<Validate> findByPostAndAndFromUserAndToUser(Post post, User fromUser, User toUser);
+
+    List<Validate> findAllByPostAndFromUserAndToUser_UserIdIn(Post post, User fromUser, Collection<Long> toUserIds);
 }
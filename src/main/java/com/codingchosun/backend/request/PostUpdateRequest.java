@@ -21,4 +21,8 @@ public class PostUpdateRequest {
     @NotEmpty
     private String alterTags; //스페이스로 구분한 해쉬태그
 
+    //모임 장소, 둘 다 없으면 기존 장소 유지
+    private Double latitude;
+    private Double longitude;
+
 }
@@ -1,5 +1,6 @@
 package com.codingchosun.backend.request;
 
+import com.codingchosun.backend.response.TemplateCountResponse;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,5 +27,9 @@ public class ProfileResponse {
 
     private List<String> hashNames;
 
+    //많이 받은 평가 상위 n개의 내용
     private List<String> templateNames;
+
+    //templateNames와 같은 순서, 받은 횟수 포함
+    private List<TemplateCountResponse> templateCounts;
 }
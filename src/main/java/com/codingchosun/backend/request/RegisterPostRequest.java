@@ -25,6 +25,10 @@ public class RegisterPostRequest {
 
     private List<String> hashtags = new ArrayList<>();
 
+    //모임 장소 (선택), 넣을거면 둘 다 넣어야 함
+    private Double latitude;
+    private Double longitude;
+
     @Override
     public String toString() {
         return "RegisterPostRequest{" +
@@ -32,6 +36,8 @@ public class RegisterPostRequest {
                 ", content='" + content + '\'' +
                 ", startTime=" + startTime +
                 ", hashtags=" + hashtags +
+                ", latitude=" + latitude +
+                ", longitude=" + longitude +
                 '}';
     }
 }
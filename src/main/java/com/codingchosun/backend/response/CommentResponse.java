@@ -18,4 +18,12 @@ public class CommentResponse {
         this.createdAt = comment.getCreatedAt();
         this.userDTO = new UserDTO(comment.getUser());
     }
+
+    //jpql dto 조회용
+    public CommentResponse(Long commentId, String content, LocalDateTime createdAt, Long userId, String nickname, String loginId){
+        this.commentId = commentId;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.userDTO = new UserDTO(userId, nickname, loginId);
+    }
 }
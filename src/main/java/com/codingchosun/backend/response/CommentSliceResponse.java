@@ -0,0 +1,23 @@
+package com.codingchosun.backend.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    커서 방식 댓글 목록
+    다음 페이지는 nextCreatedAt, nextCommentId를 lastCreatedAt, lastCommentId로 넘겨서 요청
+ */
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Setter
+public class CommentSliceResponse {
+    List<CommentResponse> comments;
+    Long totalCount;
+    Boolean hasNext;
+    LocalDateTime nextCreatedAt;
+    Long nextCommentId;
+}
@@ -16,4 +16,9 @@ public class HashtagDto {
         this.hashtagId = hashtag.getHashtagId();
         this.hashtagName = hashtag.getHashtagName();
     }
+
+    public HashtagDto(Long hashtagId, String hashtagName){
+        this.hashtagId = hashtagId;
+        this.hashtagName = hashtagName;
+    }
 }
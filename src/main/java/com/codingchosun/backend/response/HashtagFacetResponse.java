@@ -0,0 +1,14 @@
+package com.codingchosun.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagFacetResponse {
+    private Long hashtagId;
+    private String hashtagName;
+    private long count;     //검색 결과 중 이 해시태그가 붙은 글 수
+}
@@ -0,0 +1,13 @@
+package com.codingchosun.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagSuggestResponse {
+    private String hashtagName;
+    private long count;     //글, 유저에 붙은 횟수
+}
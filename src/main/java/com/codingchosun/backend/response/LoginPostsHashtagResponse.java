@@ -2,7 +2,6 @@ package com.codingchosun.backend.response;
 
 import com.codingchosun.backend.domain.Hashtag;
 import lombok.*;
-import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -12,7 +11,7 @@ import java.util.List;
 @AllArgsConstructor
 @Setter
 public class LoginPostsHashtagResponse {
-    Page<LoginPostsResponse> loginPostsResponses;
+    PageResponse<LoginPostsResponse> loginPostsResponses;
     List<HashtagDto> hashtagDtoList;
 
 
@@ -10,6 +10,6 @@ import lombok.*;
 public class LoginPostsResponse {
     Long id;
     String title;
-    String contents;
+    String excerpt;     //본문 앞부분만, 전체 본문은 글 상세에서
     String path;
 }
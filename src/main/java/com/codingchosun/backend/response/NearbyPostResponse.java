@@ -0,0 +1,22 @@
+package com.codingchosun.backend.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Setter
+public class NearbyPostResponse {
+    Long id;
+    String title;
+    String excerpt;     //본문 앞부분만, 전체 본문은 글 상세에서
+    String path;
+    LocalDateTime startTime;
+    Double latitude;
+    Double longitude;
+    //검색 위치에서 거리(km)
+    double distanceKm;
+}
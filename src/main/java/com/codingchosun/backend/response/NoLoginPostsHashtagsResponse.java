@@ -2,7 +2,6 @@ package com.codingchosun.backend.response;
 
 import com.codingchosun.backend.domain.Hashtag;
 import lombok.*;
-import org.springframework.data.domain.Page;
 
 import java.util.List;
 
@@ -13,6 +12,6 @@ import java.util.List;
 @Setter
 public class NoLoginPostsHashtagsResponse {
 
-    Page<NoLoginPostsResponse> noLoginPostsResponses;
+    PageResponse<NoLoginPostsResponse> noLoginPostsResponses;
     List<HashtagDto> hashtagDtoList;
 }
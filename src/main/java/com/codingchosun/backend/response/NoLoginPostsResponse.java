@@ -3,6 +3,7 @@ package com.codingchosun.backend.response;
 import com.codingchosun.backend.domain.Hashtag;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -13,6 +14,7 @@ import java.util.List;
 public class NoLoginPostsResponse {
     Long id;
     String title;
-    String contents;
+    String excerpt;     //본문 앞부분만, 전체 본문은 글 상세에서
     String path;
+    LocalDateTime startTime;
 }
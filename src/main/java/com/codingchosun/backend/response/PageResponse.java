@@ -0,0 +1,29 @@
+package com.codingchosun.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/*
+    목록 응답용 페이지
+    Page를 그대로 내보내면 pageable, sort 정보가 매번 같이 나가서 필요한 값만 담는다
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse<T> {
+    private List<T> content;
+    private int page;           //요청과 같이 1부터 (spring.data.web.pageable.one-indexed-parameters)
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    private boolean hasNext;
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber() + 1, page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.hasNext());
+    }
+}
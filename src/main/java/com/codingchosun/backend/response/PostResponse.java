@@ -30,6 +30,8 @@ public class PostResponse {
     private StateCode stateCode;
 
     private Long viewCount;
+    private Double latitude;
+    private Double longitude;
     private UserDTO userDTO;
     private List<String> hashList;
 
@@ -42,6 +44,8 @@ public class PostResponse {
         this.endTime = post.getEndTime();
         this.stateCode = post.getStateCode();
         this.viewCount = post.getViewCount();
+        this.latitude = post.getLatitude();
+        this.longitude = post.getLongitude();
         this.userDTO = new UserDTO(post.getUser());
 
         this.hashList = post.getPostHashes().stream()
@@ -0,0 +1,22 @@
+package com.codingchosun.backend.response;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+    시작시간 순서 커서 방식 모임글 목록
+    다음 페이지는 nextStartTime, nextPostId를 lastStartTime, lastPostId로 넘겨서 요청
+ */
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Setter
+public class PostSliceResponse {
+    List<NoLoginPostsResponse> posts;
+    Boolean hasNext;
+    LocalDateTime nextStartTime;
+    Long nextPostId;
+}
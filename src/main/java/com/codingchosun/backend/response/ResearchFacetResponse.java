@@ -0,0 +1,18 @@
+package com.codingchosun.backend.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/*
+    검색 결과 + 결과 전체에서 많이 붙은 해시태그 목록
+ */
+@Getter
+@NoArgsConstructor
+@Builder
+@AllArgsConstructor
+@Setter
+public class ResearchFacetResponse {
+    PageResponse<ResearchPostResponse> posts;
+    List<HashtagFacetResponse> facets;
+}
@@ -0,0 +1,13 @@
+package com.codingchosun.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateCountResponse {
+    private String content;
+    private long count;
+}
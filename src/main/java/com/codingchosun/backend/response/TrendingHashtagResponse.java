@@ -0,0 +1,15 @@
+package com.codingchosun.backend.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingHashtagResponse {
+    private Long hashtagId;
+    private String hashtagName;
+    private long activePostCount;
+    private long followerCount;
+}
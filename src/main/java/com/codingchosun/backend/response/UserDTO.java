@@ -16,4 +16,10 @@ public class UserDTO {
         this.nickname = user.getNickname();
     }
 
+    public UserDTO(Long userId, String nickname, String loginId){
+        this.userId = userId;
+        this.nickname = nickname;
+        this.loginId = loginId;
+    }
+
 }
@@ -0,0 +1,19 @@
+package com.codingchosun.backend.response;
+
+import com.codingchosun.backend.constants.ScoreOutboxStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+//평가 접수 결과, 점수 반영은 나중에 되므로 receiptId로 상태를 다시 조회한다
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ValidateReceiptResponse {
+    private String receiptId;
+    //접수된 평가 개수
+    private long total;
+    //점수까지 반영된 평가 개수
+    private long applied;
+    private ScoreOutboxStatus status;
+}
@@ -1,15 +1,27 @@
 package com.codingchosun.backend.service;
 
+import com.codingchosun.backend.component.cache.CommentCountCache;
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.event.PostActivityEvent;
+import com.codingchosun.backend.component.event.PostActivityType;
+import com.codingchosun.backend.component.index.ActivePostIndex;
 import com.codingchosun.backend.domain.Comment;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.User;
+import com.codingchosun.backend.exception.notfoundfromdb.PostNotFoundFromDB;
 import com.codingchosun.backend.repository.commentrepository.DataJpaCommentRepository;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
 import com.codingchosun.backend.request.RegisterCommentRequest;
 import com.codingchosun.backend.response.CommentResponse;
-import jakarta.transaction.Transactional;
+import com.codingchosun.backend.response.CommentSliceResponse;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -21,15 +33,30 @@ import java.util.List;
 public class CommentService {
 
     private final DataJpaCommentRepository dataJpaCommentRepository;
+    private final DataJpaPostRepository dataJpaPostRepository;
+    private final CommentCountCache commentCountCache;
+    private final ActivePostIndex activePostIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ContentVersions contentVersions;
+
+    //post는 존재 여부만 확인하고 프록시로 붙이므로 INSERT 하나만 나간다
+    public Comment registerComments(User user, Long postId, RegisterCommentRequest registerCommentRequest){
+        if (!activePostIndex.exists(postId)) {
+            throw new PostNotFoundFromDB("postId: " + postId + "를 찾지 못했습니다");
+        }
+        Post post = dataJpaPostRepository.getReferenceById(postId);
 
-    public Comment registerComments(User user, Post post, RegisterCommentRequest registerCommentRequest){
         Comment comment = new Comment();
         comment.setUser(user);
         comment.setPost(post);
         comment.setContent(registerCommentRequest.getContents());
         comment.setCreatedAt(LocalDateTime.now());
 
-        return dataJpaCommentRepository.save(comment);
+        Comment save = dataJpaCommentRepository.save(comment);
+        commentCountCache.increase(postId);
+        contentVersions.postChanged(postId);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.COMMENT_CREATED, user.getUserId(), save.getCommentId()));
+        return save;
     }
 
     public String deleteComment(User user, Long postId, Long commentId) {
@@ -42,10 +69,47 @@ public class CommentService {
         if (count == 0) {
             return "포스트아이디와 댓글아이디에 일치하는 댓글이 없습니다.";
         }
+        commentCountCache.decrease(postId, count);
+        contentVersions.postChanged(postId);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.COMMENT_DELETED, user.getUserId(), commentId));
         return "댓글 " + count + "개가 삭제됐습니다.";
     }
 
+    //개수는 캐시에서 가져오므로 count 쿼리가 나가지 않음
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getPagedComments(Pageable pageable, Long postId){
-        return dataJpaCommentRepository.findAllByPost_PostId(postId, pageable).map(CommentResponse::new);
+        List<CommentResponse> comments = dataJpaCommentRepository.findResponsesByPostId(postId, pageable);
+        return new PageImpl<>(comments, pageable, commentCountCache.getCount(postId));
+    }
+
+    //게시글 상세에 붙는 최신 댓글, 커서 조회의 첫 페이지를 기존 Page 형태로 감싼다
+    @Transactional(readOnly = true)
+    public Page<CommentResponse> getLatestComments(Long postId, int size) {
+        List<CommentResponse> comments = dataJpaCommentRepository.findFirstSliceByPostId(postId, PageRequest.of(0, size));
+        Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "createdAt"));
+        return new PageImpl<>(comments, pageable, commentCountCache.getCount(postId));
+    }
+
+    //커서 페이징, lastCreatedAt과 lastCommentId가 없으면 첫 페이지
+    @Transactional(readOnly = true)
+    public CommentSliceResponse getCommentsByCursor(Long postId, LocalDateTime lastCreatedAt, Long lastCommentId, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);   //다음 페이지 여부 확인용으로 하나 더 가져옴
+        List<CommentResponse> comments = (lastCreatedAt == null || lastCommentId == null)
+                ? dataJpaCommentRepository.findFirstSliceByPostId(postId, limit)
+                : dataJpaCommentRepository.findNextSliceByPostId(postId, lastCreatedAt, lastCommentId, limit);
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = comments.subList(0, size);
+        }
+        CommentResponse last = comments.isEmpty() ? null : comments.get(comments.size() - 1);
+
+        return CommentSliceResponse.builder()
+                .comments(comments)
+                .totalCount(commentCountCache.getCount(postId))
+                .hasNext(hasNext)
+                .nextCreatedAt(hasNext ? last.getCreatedAt() : null)
+                .nextCommentId(hasNext ? last.getCommentId() : null)
+                .build();
     }
 }
@@ -1,25 +1,30 @@
 package com.codingchosun.backend.service;
 
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
 import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.User;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
 public class DeleteAccountService {
     DataJpaUserRepository userRepository;
+    ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public DeleteAccountService(DataJpaUserRepository userRepository) {
+    public DeleteAccountService(DataJpaUserRepository userRepository, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public void deleteAccount(User user) {
         user.setState(StateCode.INACTIVE);
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getLoginId()));
     }
 
 }
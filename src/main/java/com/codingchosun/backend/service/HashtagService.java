@@ -0,0 +1,53 @@
+package com.codingchosun.backend.service;
+
+import com.codingchosun.backend.domain.Hashtag;
+import com.codingchosun.backend.repository.hashtagrepository.DataJpaHashtagRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class HashtagService {
+
+    private final DataJpaHashtagRepository dataJpaHashtagRepository;
+
+    /*
+    *   해시태그 이름 목록을 Hashtag로 바꾼다, 없는 이름은 새로 만든다
+    *   이름마다 findByHashtagName 하지 않고 IN 한번으로 읽는다
+    *   공백 이름과 중복 이름은 빼고 입력 순서대로 돌려준다
+    */
+    public Map<String, Hashtag> resolveHashtags(Collection<String> hashtagNames) {
+        Set<String> names = new LinkedHashSet<>();
+        for (String hashtagName : hashtagNames) {
+            if (hashtagName != null && !hashtagName.isBlank()) {
+                names.add(hashtagName);
+            }
+        }
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Hashtag> found = new HashMap<>();
+        for (Hashtag hashtag : dataJpaHashtagRepository.findAllByHashtagNameIn(new ArrayList<>(names))) {
+            found.put(hashtag.getHashtagName(), hashtag);
+        }
+
+        Map<String, Hashtag> resolved = new LinkedHashMap<>();
+        for (String name : names) {
+            Hashtag hashtag = found.get(name);
+            if (hashtag == null) {  //없으면 새 해쉬태그 만들기
+                hashtag = new Hashtag();
+                hashtag.setHashtagName(name);
+                hashtag = dataJpaHashtagRepository.save(hashtag);
+            }
+            resolved.put(name, hashtag);
+        }
+        return resolved;
+    }
+}
@@ -1,6 +1,8 @@
 package com.codingchosun.backend.service;
 
-import com.codingchosun.backend.component.file.FileStore;
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.file.BlobStore;
+import com.codingchosun.backend.component.transaction.TransactionCallbacks;
 import com.codingchosun.backend.domain.Image;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.User;
@@ -9,7 +11,7 @@ import com.codingchosun.backend.exception.invalidrequest.IsNotPostImage;
 import com.codingchosun.backend.exception.notfoundfromdb.ImageNotFoundFromDB;
 import com.codingchosun.backend.repository.imagerepository.DataJpaImageRepository;
 import com.codingchosun.backend.response.ImageResponse;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -27,23 +30,33 @@ import java.util.List;
 public class ImageService {
 
     private final DataJpaImageRepository dataJpaImageRepository;
-    private final FileStore fileStore;
+    private final BlobStore blobStore;
+    private final ContentVersions contentVersions;
 
+    @Transactional(readOnly = true)
     public Page<ImageResponse> getImageURLList(Pageable pageable, Long postId){
         return dataJpaImageRepository.findByPost_PostId(postId, pageable).map(ImageResponse::new);
     }
 
     //여러개의 파일을 받아서 지정된 경로에 저장, 리턴값으로는 저장한 파일개수 반환
+    //저장 중 실패하거나 트랜잭션이 롤백되면 이미 저장한 파일은 지운다
     public int uploadImages(List<MultipartFile> multipartFiles, Post post) {
 
-        List<String> savedFiles;    //파일의 본래 이름이 아닌 저장 됐을때의 이름
+        List<String> savedFiles = new ArrayList<>();    //파일의 본래 이름이 아닌 저장 됐을때의 위치
         int count = 0;              //저장한 파일 개수
 
         try {
-            savedFiles = fileStore.storeImages(multipartFiles);
+            for (MultipartFile multipartFile : multipartFiles) {
+                String savedFile = blobStore.storeImage(multipartFile);
+                if (savedFile != null) {
+                    savedFiles.add(savedFile);
+                }
+            }
         } catch (IOException e) {
+            deleteBlobs(savedFiles);
             throw new RuntimeException(e);  //파일 저장 중 실패
         }
+        TransactionCallbacks.afterRollback(() -> deleteBlobs(savedFiles));
 
         if(savedFiles.isEmpty()){
             log.info("사진 없음");  //MultipartFile이 비었을 경우
@@ -58,6 +71,11 @@ public class ImageService {
             dataJpaImageRepository.save(image); //저장
             count++;
         }
+        //목록의 대표 이미지가 바뀔 수 있으므로 피드도 같이
+        if (count > 0) {
+            contentVersions.postChanged(post.getPostId());
+            contentVersions.feedChanged();
+        }
 
         return  count;
     }
@@ -78,9 +96,22 @@ public class ImageService {
         }
 
         dataJpaImageRepository.delete(image);
+        //파일은 되돌릴 수 없으므로 커밋된 뒤에 지운다
+        String location = image.getUrl();
+        TransactionCallbacks.afterCommit(() -> deleteBlobs(List.of(location)));
+        contentVersions.postChanged(post.getPostId());
+        contentVersions.feedChanged();
 
         return targetId;
     }
 
-
+    private void deleteBlobs(List<String> locations) {
+        for (String location : locations) {
+            try {
+                blobStore.delete(location);
+            } catch (IOException | RuntimeException e) {
+                log.warn("이미지 파일 삭제 실패 location={}", location, e);
+            }
+        }
+    }
 }
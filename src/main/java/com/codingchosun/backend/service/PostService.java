@@ -1,16 +1,28 @@
 package com.codingchosun.backend.service;
 
 
+import com.codingchosun.backend.component.feed.FeedRanker;
+import com.codingchosun.backend.component.feed.HotPostLeaderboard;
+import com.codingchosun.backend.component.index.ActivePostIndex;
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.cache.TrendingHashtagCache;
+import com.codingchosun.backend.component.index.GeoPostIndex;
+import com.codingchosun.backend.component.index.HashtagSuggestIndex;
+import com.codingchosun.backend.component.index.GeoPostIndex.GeoPost;
 import com.codingchosun.backend.constants.DeleteConstants;
+import com.codingchosun.backend.constants.PagingConstants;
 import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.*;
 import com.codingchosun.backend.exception.ObjectNotFound;
 import com.codingchosun.backend.exception.invalidrequest.InvalidEditorException;
+import com.codingchosun.backend.exception.invalidrequest.InvalidLocationException;
 import com.codingchosun.backend.exception.invalidrequest.IsNotPostHash;
+import com.codingchosun.backend.exception.invalidtime.InvalidTimeException;
 import com.codingchosun.backend.exception.invalidtime.TimeBeforeCurrentException;
 import com.codingchosun.backend.exception.notfoundfromdb.HashtagNotFoundFromDB;
 import com.codingchosun.backend.exception.notfoundfromdb.PostNotFoundFromDB;
 import com.codingchosun.backend.repository.hashtagrepository.DataJpaHashtagRepository;
+import com.codingchosun.backend.repository.hashtagrepository.HashtagStatRepository;
 import com.codingchosun.backend.repository.hashtagrepository.DataJpaPostHashRepository;
 import com.codingchosun.backend.repository.hashtagrepository.DataJpaUserHashRepository;
 import com.codingchosun.backend.repository.imagerepository.DataJpaImageRepository;
@@ -20,19 +32,18 @@ import com.codingchosun.backend.request.PostUpdateRequest;
 import com.codingchosun.backend.request.RegisterPostRequest;
 import com.codingchosun.backend.request.ResearchRequest;
 import com.codingchosun.backend.response.*;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -48,9 +59,19 @@ public class PostService {
     private final DataJpaImageRepository dataJpaImageRepository;
     private final ValidateService validateService;
     private final DataJpaUserHashRepository dataJpaUserHashRepository;
+    private final ActivePostIndex activePostIndex;
+    private final FeedRanker feedRanker;
+    private final HotPostLeaderboard hotPostLeaderboard;
+    private final GeoPostIndex geoPostIndex;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+    private final HashtagStatRepository hashtagStatRepository;
+    private final TrendingHashtagCache trendingHashtagCache;
+    private final HashtagService hashtagService;
+    private final ContentVersions contentVersions;
 
 
     //post자체가 필요한 경우
+    @Transactional(readOnly = true)
     public Optional<Post> getPost(Long postId){
         return dataJpaPostRepository.findById(postId);
     }
@@ -63,10 +84,17 @@ public class PostService {
 
         //post의 조회수 증가
         post.increaseViewCount();
+        hotPostLeaderboard.recordView(postId);
 
         return new PostResponse(post);
     }
 
+    //304로 응답할 때는 post를 읽지 않고 조회수만 올린다
+    public void recordView(Long postId) {
+        dataJpaPostRepository.increaseViewCount(postId);
+        hotPostLeaderboard.recordView(postId);
+    }
+
     public Post registerPost(RegisterPostRequest registerPostRequest, User user) {
 
         //post만들고 영속하는 과정
@@ -86,6 +114,11 @@ public class PostService {
         post.setStartTime(registerPostRequest.getStartTime());
         post.setEndTime(registerPostRequest.getStartTime().plusDays(1));
 
+        //장소
+        validateLocation(registerPostRequest.getLatitude(), registerPostRequest.getLongitude());
+        post.setLatitude(registerPostRequest.getLatitude());
+        post.setLongitude(registerPostRequest.getLongitude());
+
         Post save = dataJpaPostRepository.save(post);
 
         //작성자는 참여자이기도 하므로 참여인원에 등록
@@ -95,31 +128,27 @@ public class PostService {
         dataJpaPostUserRepository.save(postUser);
 
 
-        //PostHash에 등록하는 과정
-        List<String> hashtagStrings = registerPostRequest.getHashtags();
-        for (String hashtagString : hashtagStrings) {
-            Hashtag hashtag;
-
-            Optional<Hashtag> optionalHashtag = dataJpaHashtagRepository.findByHashtagName(hashtagString);
-            if(optionalHashtag.isPresent()){    //findby해서 있으면 가져오고
-                hashtag = optionalHashtag.get();
-            }
-            else {  //없으면 새 해쉬태그 만들기
-                Hashtag newHashtag = new Hashtag();
-                newHashtag.setHashtagName(hashtagString);
-                hashtag = dataJpaHashtagRepository.save(newHashtag);
-            }
-
+        //PostHash에 등록하는 과정, 같은 이름은 한번만 붙인다
+        Map<String, Hashtag> hashtags = hashtagService.resolveHashtags(registerPostRequest.getHashtags());
+        List<Long> hashtagIds = new ArrayList<>();
+        for (Hashtag hashtag : hashtags.values()) {
             PostHash postHash = new PostHash();
             postHash.setPost(save);
             postHash.setHashtag(hashtag);
             dataJpaPostHashRepository.save(postHash);
+            hashtagIds.add(hashtag.getHashtagId());
+            hashtagSuggestIndex.increase(hashtag.getHashtagName());
         }
+        activePostIndex.add(save, hashtagIds);
+        geoPostIndex.put(save);
+        hashtagStatRepository.addActivePostCounts(hashtagIds, 1);
+        contentVersions.feedChanged();
 
         return save;
     }
 
     //검증 필요 + state_code가 active인것만 검색되게 할지 결정해야함
+    @Transactional(readOnly = true)
     public List<PostResponse> findByTitle(String title) {
         List<Post> posts = dataJpaPostRepository.findByTitle(title);
         return posts.stream()
@@ -128,27 +157,41 @@ public class PostService {
     }
 
 
+    @Transactional(readOnly = true)
     public NoLoginPostsHashtagsResponse noLoginGetPosts(Pageable pageable) {
-        List<Hashtag> hashtagList = dataJpaHashtagRepository.findRandomHashtags(5);
-        List<HashtagDto> hashtagDtoList = hashtagList.stream().map(HashtagDto::new).toList();
+        //인기 해시태그 스냅샷, 아직 통계가 없으면 예전처럼 랜덤
+        List<HashtagDto> hashtagDtoList = trendingHashtagCache.getTop(5).stream()
+                .map(trending -> new HashtagDto(trending.getHashtagId(), trending.getHashtagName()))
+                .toList();
+        if (hashtagDtoList.isEmpty()) {
+            hashtagDtoList = dataJpaHashtagRepository.findRandomHashtags(5).stream().map(HashtagDto::new).toList();
+        }
         Page<Post> posts = dataJpaPostRepository.findAllActiveByOrderByCreatedAtDesc(pageable);
 //        String[] split = dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl().split("/");
 
         Page<NoLoginPostsResponse> noLoginPostsResponses = posts.map(
                 m -> new NoLoginPostsResponse().builder()
                                                 .id(m.getPostId())
-                                                .contents(m.getContent())
+                                                .excerpt(excerpt(m.getContent()))
                                                 .path(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl()))
                                                 .title(m.getTitle())
                                                 .build());
 
         return new NoLoginPostsHashtagsResponse().builder()
-                .noLoginPostsResponses(noLoginPostsResponses)
+                .noLoginPostsResponses(PageResponse.of(noLoginPostsResponses))
                 .hashtagDtoList(hashtagDtoList)
                 .build();
     }
 
-    public String splitImagePath(String path) {
+    //목록용 본문 앞부분, 글자(code point) 기준으로 잘라서 이모지가 반으로 나뉘지 않게 한다
+    public static String excerpt(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= PagingConstants.MAX_EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, PagingConstants.MAX_EXCERPT_LENGTH)) + "...";
+    }
+
+    public static String splitImagePath(String path) {
         if (path == null) {
             return "";
         }
@@ -156,63 +199,194 @@ public class PostService {
         return split[split.length - 1];
     }
 
-    //ToDo 해시태그 값이 널이면 최신 포스트 보내주자
+    //해시태그가 겹치는 post를 FeedRanker 점수 순서로, 해시태그가 없거나 겹치는 post가 없으면 최신 post
+    @Transactional(readOnly = true)
     public LoginPostsHashtagResponse loginPostsRequests(User user, Pageable pageable) {
-        List<UserHash> userHashList = dataJpaUserHashRepository.findHashtagsByUser_UserId(user.getUserId());
-        List<Hashtag> hashtagList = new ArrayList<>();
-        List<Long> hashIds = new ArrayList<>();
-        for (UserHash userHash : userHashList) {
-            hashtagList.add(userHash.getHashtag());
-            hashIds.add(userHash.getHashtag().getHashtagId());
-        }
-
-        List<HashtagDto> hashtagDtoList = hashtagList.stream().map(HashtagDto::new).toList();
+        List<UserHash> userHashList = dataJpaUserHashRepository.findWithHashtagByUserId(user.getUserId());
+        List<HashtagDto> hashtagDtoList = userHashList.stream()
+                .map(userHash -> new HashtagDto(userHash.getHashtag()))
+                .toList();
+        Set<Long> hashIds = userHashList.stream()
+                .map(userHash -> userHash.getHashtag().getHashtagId())
+                .collect(Collectors.toSet());
+
+        List<Long> rankedPostIds = feedRanker.rank(user.getUserId(), hashIds);
+        Page<Post> postPage = rankedPostIds.isEmpty()
+                ? dataJpaPostRepository.findAllActiveByOrderByCreatedAtDesc(pageable)
+                : getRankedPostPage(rankedPostIds, pageable);
 
-        Page<Post> postPage = dataJpaPostRepository.findPostsByHashTagId(hashIds, pageable);
         Page<LoginPostsResponse> loginPostsRequests = postPage.map(
                 m -> new LoginPostsResponse().builder()
                         .id(m.getPostId())
-                        .contents(m.getContent())
+                        .excerpt(excerpt(m.getContent()))
                         .path(splitImagePath(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl())))
                         .title(m.getTitle())
                         .build());
 
         return new LoginPostsHashtagResponse().builder()
-                .loginPostsResponses(loginPostsRequests)
+                .loginPostsResponses(PageResponse.of(loginPostsRequests))
                 .hashtagDtoList(hashtagDtoList)
                 .build();
 
     }
 
-    public Page<ResearchPostResponse> researchPost(String researchQuery, Pageable pageable) {
+    //랭킹된 post id 중 요청한 페이지만 읽어서 랭킹 순서대로 정렬
+    private Page<Post> getRankedPostPage(List<Long> rankedPostIds, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), rankedPostIds.size());
+        int to = Math.min(from + pageable.getPageSize(), rankedPostIds.size());
+        return new PageImpl<>(findPostsInOrder(rankedPostIds.subList(from, to)), pageable, rankedPostIds.size());
+    }
+
+    //인기글, 순위는 HotPostLeaderboard에서 가져오고 db는 보여줄 페이지만 읽는다
+    @Transactional(readOnly = true)
+    public PageResponse<NoLoginPostsResponse> getHotPosts(Pageable pageable) {
+        Page<Long> postIds = hotPostLeaderboard.getPage(pageable);
+        List<NoLoginPostsResponse> contents = findPostsInOrder(postIds.getContent()).stream()
+                .map(m -> new NoLoginPostsResponse().builder()
+                        .id(m.getPostId())
+                        .excerpt(excerpt(m.getContent()))
+                        .path(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl()))
+                        .title(m.getTitle())
+                        .build())
+                .toList();
+        return PageResponse.of(new PageImpl<>(contents, pageable, postIds.getTotalElements()));
+    }
+
+    //from 이상 to 미만에 시작하는 ACTIVE 모임, 시작시간 순서 커서 페이징
+    @Transactional(readOnly = true)
+    public PostSliceResponse getPostsByStartTime(LocalDateTime from, LocalDateTime to,
+                                                 LocalDateTime lastStartTime, Long lastPostId, int size) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTimeException("from: " + from + " 이 to: " + to + " 보다 앞서야 합니다.");
+        }
+        Pageable limit = PageRequest.of(0, size + 1);   //다음 페이지 여부 확인용으로 하나 더 가져옴
+        List<Post> posts = (lastStartTime == null || lastPostId == null)
+                ? dataJpaPostRepository.findFirstSliceByStartTime(StateCode.ACTIVE, from, to, limit)
+                : dataJpaPostRepository.findNextSliceByStartTime(StateCode.ACTIVE, to, lastStartTime, lastPostId, limit);
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        Post last = posts.isEmpty() ? null : posts.get(posts.size() - 1);
+
+        List<NoLoginPostsResponse> postResponses = posts.stream()
+                .map(m -> new NoLoginPostsResponse().builder()
+                        .id(m.getPostId())
+                        .excerpt(excerpt(m.getContent()))
+                        .path(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl()))
+                        .title(m.getTitle())
+                        .startTime(m.getStartTime())
+                        .build())
+                .toList();
+
+        return PostSliceResponse.builder()
+                .posts(postResponses)
+                .hasNext(hasNext)
+                .nextStartTime(hasNext ? last.getStartTime() : null)
+                .nextPostId(hasNext ? last.getPostId() : null)
+                .build();
+    }
+
+    //주변 모임 찾기, 후보는 GeoPostIndex에서 고르고 db는 결과 post만 읽는다
+    @Transactional(readOnly = true)
+    public List<NearbyPostResponse> getNearbyPosts(double latitude, double longitude, double radiusKm,
+                                                   LocalDateTime after, int size) {
+        validateLocation(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > PagingConstants.MAX_NEARBY_RADIUS_KM) {
+            throw new InvalidLocationException("반경은 0km 초과 " + PagingConstants.MAX_NEARBY_RADIUS_KM + "km 이하만 가능합니다. 요청: " + radiusKm);
+        }
+
+        List<GeoPost> geoPosts = geoPostIndex.findNearby(latitude, longitude, radiusKm, after, size);
+        Map<Long, Post> posts = findPostsInOrder(geoPosts.stream().map(GeoPost::getPostId).toList()).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+
+        return geoPosts.stream()
+                .filter(geoPost -> posts.containsKey(geoPost.getPostId()))
+                .map(geoPost -> {
+                    Post m = posts.get(geoPost.getPostId());
+                    return NearbyPostResponse.builder()
+                            .id(m.getPostId())
+                            .title(m.getTitle())
+                            .excerpt(excerpt(m.getContent()))
+                            .path(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl()))
+                            .startTime(m.getStartTime())
+                            .latitude(m.getLatitude())
+                            .longitude(m.getLongitude())
+                            .distanceKm(geoPost.getDistanceKm())
+                            .build();
+                })
+                .toList();
+    }
+
+    private void validateLocation(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (latitude == null || longitude == null) {
+            throw new InvalidLocationException("위도와 경도는 같이 입력해야 합니다.");
+        }
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new InvalidLocationException("위도: " + latitude + " 경도: " + longitude);
+        }
+    }
+
+    private List<Post> findPostsInOrder(List<Long> postIds) {
+        Map<Long, Post> posts = dataJpaPostRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getPostId, Function.identity()));
+        return postIds.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public PageResponse<ResearchPostResponse> researchPost(String researchQuery, Pageable pageable) {
         Page<Post> posts = null;
         if (researchQuery.isEmpty()) {
             posts = dataJpaPostRepository.findAllActiveByOrderByCreatedAtDesc(pageable);
         } else {
             List<String> titleQuery = new ArrayList<>();
             List<String> hashQuery = new ArrayList<>();
-
-            String query = researchQuery;
-            String[] querys = query.split(" ");
-
-            for (String q : querys) {
-                if (q.contains("#")) {
-                    hashQuery.add(q);
-                } else {
-                    titleQuery.add(q);
-                }
-            }
+            splitResearchQuery(researchQuery, titleQuery, hashQuery);
             posts = dataJpaPostRepository.findPostsByResearchQuery(titleQuery, hashQuery, pageable);
         }
 
-        return posts.map(
+        return PageResponse.of(posts.map(
                 m -> new ResearchPostResponse().builder()
                         .id(m.getPostId())
                         .title(m.getTitle())
-                        .contents(m.getContent())
+                        .excerpt(excerpt(m.getContent()))
                         .path(splitImagePath(dataJpaImageRepository.findFirstByPost(m).orElse(new Image()).getUrl()))
                         .build()
-        );
+        ));
+    }
+
+    //검색 결과 + 결과 전체 기준 해시태그 상위 facetSize개
+    @Transactional(readOnly = true)
+    public ResearchFacetResponse researchPostWithFacets(String researchQuery, Pageable pageable, int facetSize) {
+        List<String> titleQuery = new ArrayList<>();
+        List<String> hashQuery = new ArrayList<>();
+        splitResearchQuery(researchQuery, titleQuery, hashQuery);
+
+        return ResearchFacetResponse.builder()
+                .posts(researchPost(researchQuery, pageable))
+                .facets(dataJpaPostRepository.findHashtagFacetsByResearchQuery(titleQuery, hashQuery, facetSize))
+                .build();
+    }
+
+    //공백으로 나눠서 #이 들어간건 해시태그, 나머지는 제목 검색어
+    private void splitResearchQuery(String researchQuery, List<String> titleQuery, List<String> hashQuery) {
+        if (researchQuery.isEmpty()) {
+            return;
+        }
+        for (String q : researchQuery.split(" ")) {
+            if (q.contains("#")) {
+                hashQuery.add(q);
+            } else {
+                titleQuery.add(q);
+            }
+        }
     }
 
 
@@ -237,14 +411,21 @@ public class PostService {
         post.setStartTime(postUpdateRequest.getStartTime());
         post.setEndTime(postUpdateRequest.getStartTime().plusDays(1));
 
-        //해쉬태그 수정
-            //기존 해쉬태그 삭제
-        List<PostHash> oldPostHashes = post.getPostHashes();
-        dataJpaPostHashRepository.deleteAll(oldPostHashes);
-
-            //대체될 해쉬태그 추가
-        alterHashtagsToPost(postUpdateRequest, post);
+        //장소 수정
+        if (postUpdateRequest.getLatitude() != null || postUpdateRequest.getLongitude() != null) {
+            validateLocation(postUpdateRequest.getLatitude(), postUpdateRequest.getLongitude());
+            post.setLatitude(postUpdateRequest.getLatitude());
+            post.setLongitude(postUpdateRequest.getLongitude());
+        }
+        if (post.getStateCode() == StateCode.ACTIVE) {
+            geoPostIndex.put(post);
+        }
 
+        //해쉬태그 수정, 바뀐 것만 삭제/추가
+        List<Long> hashtagIds = alterHashtagsToPost(postUpdateRequest, post);
+        activePostIndex.updateHashtags(post.getPostId(), hashtagIds);
+        contentVersions.postChanged(post.getPostId());
+        contentVersions.feedChanged();
 
         return post;
     }
@@ -264,7 +445,18 @@ public class PostService {
         }
 
         //삭제
+        if (post.getStateCode() == StateCode.ACTIVE) {
+            List<Long> hashtagIds = post.getPostHashes().stream()
+                    .map(postHash -> postHash.getHashtag().getHashtagId())
+                    .toList();
+            hashtagStatRepository.addActivePostCounts(hashtagIds, -1);
+        }
         post.setStateCode(StateCode.INACTIVE);
+        activePostIndex.remove(post.getPostId());
+        geoPostIndex.remove(post.getPostId());
+        hotPostLeaderboard.remove(post.getPostId());
+        contentVersions.postChanged(post.getPostId());
+        contentVersions.feedChanged();
         return DeleteConstants.DELETE_COMPLETE;
     }
 
@@ -284,34 +476,45 @@ public class PostService {
 
 
 //기타 메서드들
-private void alterHashtagsToPost(PostUpdateRequest postUpdateRequest, Post post) {
-    String[] tokens = postUpdateRequest.getAlterTags().split(" ");
-    for (String token : tokens) {
-        Optional<Hashtag> optionalHashtag = dataJpaHashtagRepository.findByHashtagName(token);
-
-        //기존에 있던 해쉬태그
-        if(optionalHashtag.isPresent()){
-            Hashtag hashtag = optionalHashtag.get();
-            PostHash postHash = new PostHash();
-            postHash.setHashtag(hashtag);
-            postHash.setPost(post);
-            dataJpaPostHashRepository.save(postHash);
-        }
-        //새로운 해쉬태그
-        else {
-            //1. 새 해쉬태그 만들기
-            Hashtag unsavedHashtag = new Hashtag();
-            unsavedHashtag.setHashtagName(token);
-            Hashtag savedHashtag = dataJpaHashtagRepository.save(unsavedHashtag);
-
-            //2. postHash 등록
-            PostHash postHash = new PostHash();
-            postHash.setHashtag(savedHashtag);
-            postHash.setPost(post);
-            dataJpaPostHashRepository.save(postHash);
+/*
+*   지금 붙어있는 해시태그와 alterTags를 비교해서 바뀐 것만 쓴다
+*   빠진 것은 DELETE ... WHERE id IN 한번, 새로 붙은 것은 batch insert 한번, 그대로인 것은 쓰지 않음
+*   수정 후 해시태그 id 목록을 돌려준다
+*/
+private List<Long> alterHashtagsToPost(PostUpdateRequest postUpdateRequest, Post post) {
+    String alterTags = postUpdateRequest.getAlterTags() == null ? "" : postUpdateRequest.getAlterTags();
+    Map<String, Hashtag> requested = hashtagService.resolveHashtags(Arrays.asList(alterTags.split(" ")));
+    Set<Long> requestedIds = new LinkedHashSet<>();
+    requested.values().forEach(hashtag -> requestedIds.add(hashtag.getHashtagId()));
+
+    Set<Long> currentIds = new HashSet<>();
+    List<Long> removedPostHashIds = new ArrayList<>();
+    List<Long> removedHashtagIds = new ArrayList<>();
+    for (PostHash postHash : post.getPostHashes()) {
+        Long hashtagId = postHash.getHashtag().getHashtagId();
+        //요청에 없거나 이미 같은 해시태그가 붙어있는 중복 행이면 삭제
+        if (!requestedIds.contains(hashtagId) || !currentIds.add(hashtagId)) {
+            removedPostHashIds.add(postHash.getId());
+            removedHashtagIds.add(hashtagId);
         }
+    }
+    List<Long> addedHashtagIds = requestedIds.stream()
+            .filter(hashtagId -> !currentIds.contains(hashtagId))
+            .toList();
+
+    if (!removedPostHashIds.isEmpty()) {
+        dataJpaPostHashRepository.deleteAllByIdInBatch(removedPostHashIds);
+    }
+    dataJpaPostHashRepository.insertAll(post.getPostId(), addedHashtagIds);
 
+    if (post.getStateCode() == StateCode.ACTIVE) {
+        hashtagStatRepository.addActivePostCounts(removedHashtagIds, -1);
+        hashtagStatRepository.addActivePostCounts(addedHashtagIds, 1);
     }
+    requested.values().stream()
+            .filter(hashtag -> addedHashtagIds.contains(hashtag.getHashtagId()))
+            .forEach(hashtag -> hashtagSuggestIndex.increase(hashtag.getHashtagName()));
+    return new ArrayList<>(requestedIds);
 }
 
 
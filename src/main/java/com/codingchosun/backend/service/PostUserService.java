@@ -1,5 +1,7 @@
 package com.codingchosun.backend.service;
 
+import com.codingchosun.backend.component.event.PostActivityEvent;
+import com.codingchosun.backend.component.event.PostActivityType;
 import com.codingchosun.backend.domain.Post;
 import com.codingchosun.backend.domain.PostUser;
 import com.codingchosun.backend.domain.User;
@@ -8,9 +10,10 @@ import com.codingchosun.backend.exception.invalidrequest.NotJoinedPost;
 import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
 import com.codingchosun.backend.repository.postuserrepository.DataJpaPostUserRepository;
 import com.codingchosun.backend.response.UserDTO;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -26,12 +29,15 @@ public class PostUserService {
 
     private final DataJpaPostUserRepository dataJpaPostUserRepository;
     private final DataJpaPostRepository dataJpaPostRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public Optional<PostUser> getPostUserByUserAndPost(User user, Post post) {
         return dataJpaPostUserRepository.findByUserAndPost(user, post);
     }
 
     //post의 모든 참가자 가져오기
+    @Transactional(readOnly = true)
     public List<UserDTO> getParticipants(Long postId){
         List<PostUser> postUserList = dataJpaPostUserRepository.findAllByPost_PostId(postId);
 
@@ -59,6 +65,7 @@ public class PostUserService {
         postUser.setPost(post);
         postUser.setUser(user);
         PostUser save = dataJpaPostUserRepository.save(postUser);
+        eventPublisher.publishEvent(new PostActivityEvent(postId, PostActivityType.PARTICIPANT_JOINED, user.getUserId(), user.getUserId()));
         return save.getUser();
     }
 
@@ -70,6 +77,7 @@ public class PostUserService {
         }
         PostUser postUser = optionalPostUser.get();
         dataJpaPostUserRepository.delete(postUser);
+        eventPublisher.publishEvent(new PostActivityEvent(post.getPostId(), PostActivityType.PARTICIPANT_LEFT, user.getUserId(), user.getUserId()));
 
         return post;
     }
@@ -1,52 +1,85 @@
 package com.codingchosun.backend.service;
 
 
-import com.codingchosun.backend.domain.Hashtag;
-import com.codingchosun.backend.domain.Template;
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import com.codingchosun.backend.constants.StateCode;
 import com.codingchosun.backend.domain.User;
-import com.codingchosun.backend.domain.UserHash;
-import com.codingchosun.backend.repository.hashtagrepository.DataJpaHashtagRepository;
-import com.codingchosun.backend.repository.hashtagrepository.DataJpaUserHashRepository;
-import com.codingchosun.backend.repository.templaterepository.TemplateRepository;
+import com.codingchosun.backend.exception.invalidrequest.DeletedUserException;
+import com.codingchosun.backend.repository.templaterepository.UserTemplateCountRepository;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.request.ProfileResponse;
+import com.codingchosun.backend.response.TemplateCountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/*
+*   프로필 조회는 loginId 단위로 캐시
+*   캐시에 없을때는 유저+해시태그 한번, 받은 평가 집계 상위 n개 한번 총 2번 조회
+*   정보 수정, 평가, 탈퇴가 커밋되면 ProfileChangedEvent로 해당 유저 캐시를 지운다
+*/
 @Service
 public class ProfileService {
 
+    private static final long MAX_PROFILE_SIZE = 10_000;
+    private static final Duration PROFILE_TTL = Duration.ofMinutes(5);
+    private static final int TOP_TEMPLATE_SIZE = 5;
+
     private final DataJpaUserRepository userRepository;
-    private final DataJpaHashtagRepository hashtagRepository;
-    private final DataJpaUserHashRepository userHashRepository;
-    private final TemplateRepository templateRepository;
+    private final UserTemplateCountRepository userTemplateCountRepository;
+    private final PrimaryReader primaryReader;
+    private final Cache<String, ProfileResponse> profileCache;
 
-    public ProfileService(DataJpaUserRepository userRepository, DataJpaHashtagRepository hashtagRepository, DataJpaUserHashRepository userHashRepository, TemplateRepository templateRepository) {
+    public ProfileService(DataJpaUserRepository userRepository, UserTemplateCountRepository userTemplateCountRepository,
+                          PrimaryReader primaryReader) {
         this.userRepository = userRepository;
-        this.hashtagRepository = hashtagRepository;
-        this.userHashRepository = userHashRepository;
-        this.templateRepository = templateRepository;
+        this.userTemplateCountRepository = userTemplateCountRepository;
+        this.primaryReader = primaryReader;
+        this.profileCache = Caffeine.newBuilder()
+                .maximumSize(MAX_PROFILE_SIZE)
+                .expireAfterWrite(PROFILE_TTL)
+                .build();
     }
 
     public ProfileResponse getProfile(String loginId) {
-        User profileUser = userRepository.findByLoginId(loginId);
-        String nickname = profileUser.getNickname();
-        Long userId = profileUser.getUserId();
-        List<UserHash> userHashes = userHashRepository.findHashtagsByUser_UserId(userId);
-        List<Long> hashtagIds = userHashes.stream().map(UserHash::getHashtag).map(Hashtag::getHashtagId).collect(Collectors.toList());
-        List<Hashtag> hashtags = hashtagRepository.findByHashtagIdIn(hashtagIds);
-        List<String> hashtagNames = hashtags.stream().map(Hashtag::getHashtagName).toList();
-        List<String> templateNames =  templateRepository.findByValidates_ToUser_UserId(userId).stream().map(Template::getContent).toList();
+        //변경 직후 비운 캐시를 replica의 옛 값으로 다시 채우지 않도록 primary에서 읽는다
+        return profileCache.get(loginId, id -> primaryReader.read(() -> loadProfile(id)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evictProfile(ProfileChangedEvent event) {
+        profileCache.invalidate(event.getLoginId());
+    }
+
+    private ProfileResponse loadProfile(String loginId) {
+        User profileUser = userRepository.findWithHashtagsByLoginId(loginId).orElse(null);
+        if (profileUser == null || profileUser.getState() != StateCode.ACTIVE) {
+            throw new DeletedUserException("탈퇴된 유저 입니다.");
+        }
+
+        List<String> hashtagNames = profileUser.getUserHashes().stream()
+                .map(userHash -> userHash.getHashtag().getHashtagName())
+                .toList();
+        List<TemplateCountResponse> templateCounts = userTemplateCountRepository.findTopByUserId(
+                profileUser.getUserId(), PageRequest.of(0, TOP_TEMPLATE_SIZE));
+        List<String> templateNames = templateCounts.stream()
+                .map(TemplateCountResponse::getContent)
+                .toList();
 
         return ProfileResponse.builder()
-                .nickname(nickname)
+                .nickname(profileUser.getNickname())
                 .introduction(profileUser.getIntroduction())
                 .email(profileUser.getEmail())
                 .score(profileUser.getScore())
                 .hashNames(hashtagNames)
                 .templateNames(templateNames)
+                .templateCounts(templateCounts)
                 .build();
     }
-}
\ No newline at end of file
+}
@@ -1,19 +1,22 @@
 package com.codingchosun.backend.service;
 
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import com.codingchosun.backend.component.index.HashtagSuggestIndex;
 import com.codingchosun.backend.domain.*;
 import com.codingchosun.backend.repository.hashtagrepository.DataJpaHashtagRepository;
 import com.codingchosun.backend.repository.hashtagrepository.DataJpaUserHashRepository;
+import com.codingchosun.backend.repository.hashtagrepository.HashtagStatRepository;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.request.UserUpdateRequest;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
@@ -25,18 +28,27 @@ public class UserUpdateService {
     private DataJpaUserHashRepository userHashRepository;
     private DataJpaHashtagRepository hashtagRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
+    private final HashtagStatRepository hashtagStatRepository;
+    private final HashtagService hashtagService;
     @Autowired
-    public UserUpdateService(DataJpaUserRepository userRepository, DataJpaUserHashRepository userHashRepository, DataJpaHashtagRepository hashtagRepository, PasswordEncoder passwordEncoder) {
+    public UserUpdateService(DataJpaUserRepository userRepository, DataJpaUserHashRepository userHashRepository, DataJpaHashtagRepository hashtagRepository, PasswordEncoder passwordEncoder, ApplicationEventPublisher eventPublisher, HashtagSuggestIndex hashtagSuggestIndex, HashtagStatRepository hashtagStatRepository, HashtagService hashtagService) {
         this.userRepository = userRepository;
         this.userHashRepository = userHashRepository;
         this.hashtagRepository = hashtagRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.hashtagSuggestIndex = hashtagSuggestIndex;
+        this.hashtagStatRepository = hashtagStatRepository;
+        this.hashtagService = hashtagService;
     }
 
     public void updateUser(User user, UserUpdateRequest updateRequest) {
         user = userRepository.findById(user.getUserId()).orElseThrow(()
                 -> new IllegalArgumentException("해당하는 아이디가 없습니다 id : "));
         List<String> hashList = updateRequest.getHashList();
+        boolean nicknameChanged = updateRequest.getNickname() != null && !updateRequest.getNickname().equals(user.getNickname());
         String encodedPassword = passwordEncoder.encode(updateRequest.getPassword());
         updateRequest = UserUpdateRequest.builder()
                 .password(updateRequest.getPassword() != null ? encodedPassword : user.getPassword())
@@ -48,42 +60,49 @@ public class UserUpdateService {
         updateUserHashtag(user, hashList);
         user.setUpdateRequest(updateRequest);
         userRepository.save(user);
+        eventPublisher.publishEvent(new ProfileChangedEvent(user.getLoginId(), nicknameChanged));
     }
 
+    /*
+    *   지금 붙어있는 해시태그와 요청 해시태그를 비교해서 바뀐 것만 쓴다
+    *   빠진 것은 DELETE ... WHERE id IN 한번, 새로 붙은 것은 batch insert 한번, 그대로인 것은 쓰지 않음
+    *   hashList가 null이면 해시태그는 건드리지 않는다
+    */
     public void updateUserHashtag(User user, List<String> hashList) {
-        //해시태그 수정하기위해 그냥 이 유저의 userhash를 전부삭제
-        List<UserHash> userHashes = userHashRepository.findHashtagsByUser_UserId(user.getUserId());
-        userHashRepository.deleteAll(userHashes);
         log.info("hashList = {}", hashList);
-        //새롭게 등록할 해시태그의 개수만큼 반복문
-        for (String hashtagString : hashList) {
-            Optional<Hashtag> optionalHashtag = hashtagRepository.findByHashtagName(hashtagString);
-            Hashtag hashtag;    //hashtag null확인 하려고 옵셔널 처리
-
-            if (optionalHashtag.isPresent()) {  //이미 hashtag테이블에 등록된 해시태그라면
-                hashtag = optionalHashtag.get(); //등록된 hashtag 가져옴
-                UserHash existUserHash = userHashRepository.findHashtagsByHashtag_HashtagIdAndUser_UserId(hashtag.getHashtagId(), user.getUserId());
-                //hashtagid, userid로 똑같은 userhash가 있는지 검사하기위한 코드
-                if (existUserHash == null) {
-                    UserHash userHash = new UserHash();
-                    userHash.setUser(user);
-                    userHash.setHashtag(hashtag);
-                    userHashRepository.save(userHash);
-                    //이미존재하는 똑같은 userhash가 없으니 새로운 userhash 저장
-                }
-            } else {  //이미등록된hashtag, 이미등록된userhash가 아닌경우
-                //해시태그, 유저해시가 둘다없음 (해시태그도 유저해시도 둘다 새로등록해야한다는 뜻)
-                hashtag = new Hashtag();
-                hashtag.setHashtagName(hashtagString);
-                hashtag = hashtagRepository.save(hashtag);
-
-                UserHash userHash = new UserHash();
-                userHash.setUser(user);
-                userHash.setHashtag(hashtag);
+        if (hashList == null) {
+            return;
+        }
+        Map<String, Hashtag> requested = hashtagService.resolveHashtags(hashList);
+        Set<Long> requestedIds = new LinkedHashSet<>();
+        requested.values().forEach(hashtag -> requestedIds.add(hashtag.getHashtagId()));
 
-                userHashRepository.save(userHash);
+        List<UserHash> userHashes = userHashRepository.findHashtagsByUser_UserId(user.getUserId());
+        Set<Long> currentIds = new HashSet<>();
+        List<Long> removedUserHashIds = new ArrayList<>();
+        List<Long> removedHashtagIds = new ArrayList<>();
+        for (UserHash userHash : userHashes) {
+            Long hashtagId = userHash.getHashtag().getHashtagId();
+            //요청에 없거나 이미 같은 해시태그가 붙어있는 중복 행이면 삭제
+            if (!requestedIds.contains(hashtagId) || !currentIds.add(hashtagId)) {
+                removedUserHashIds.add(userHash.getId());
+                removedHashtagIds.add(hashtagId);
             }
         }
+        List<Long> addedHashtagIds = requestedIds.stream()
+                .filter(hashtagId -> !currentIds.contains(hashtagId))
+                .toList();
+
+        if (!removedUserHashIds.isEmpty()) {
+            userHashRepository.deleteAllByIdInBatch(removedUserHashIds);
+        }
+        userHashRepository.insertAll(user.getUserId(), addedHashtagIds);
+
+        hashtagStatRepository.addFollowerCounts(removedHashtagIds, -1);
+        hashtagStatRepository.addFollowerCounts(addedHashtagIds, 1);
+        requested.values().stream()
+                .filter(hashtag -> addedHashtagIds.contains(hashtag.getHashtagId()))
+                .forEach(hashtag -> hashtagSuggestIndex.increase(hashtag.getHashtagName()));
         userRepository.save(user);
     }
 }
\ No newline at end of file
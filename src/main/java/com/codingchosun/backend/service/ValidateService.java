@@ -1,13 +1,19 @@
 package com.codingchosun.backend.service;
 
 
+import com.codingchosun.backend.component.cache.TemplateRegistry;
+import com.codingchosun.backend.component.cache.TemplateRegistry.TemplateEntry;
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import com.codingchosun.backend.constants.ScoreOutboxStatus;
 import com.codingchosun.backend.domain.*;
 import com.codingchosun.backend.exception.NotEqualsUserSize;
 import com.codingchosun.backend.exception.ObjectNotFound;
 import com.codingchosun.backend.exception.invalidrequest.AlreadyValidated;
+import com.codingchosun.backend.repository.outboxrepository.ScoreOutboxRepository;
 import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
 import com.codingchosun.backend.repository.postuserrepository.DataJpaPostUserRepository;
 import com.codingchosun.backend.repository.templaterepository.TemplateRepository;
+import com.codingchosun.backend.repository.templaterepository.UserTemplateCountRepository;
 import com.codingchosun.backend.repository.userrepository.DataJpaUserRepository;
 import com.codingchosun.backend.repository.validaterepository.ValidateRepository;
 import com.codingchosun.backend.request.UserValidate;
@@ -16,14 +22,16 @@ import com.codingchosun.backend.request.ValidateRequest;
 import com.codingchosun.backend.response.MembersAndTemplates;
 import com.codingchosun.backend.response.UpdateUsersManner;
 import com.codingchosun.backend.response.UserIdAndNickName;
+import com.codingchosun.backend.response.ValidateReceiptResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -34,9 +42,16 @@ public class ValidateService {
     private final DataJpaUserRepository dataJpaUserRepository;
     private final DataJpaPostRepository dataJpaPostRepository;
     private final TemplateRepository templateRepository;
+    private final TemplateRegistry templateRegistry;
+    private final UserTemplateCountRepository userTemplateCountRepository;
     private final DataJpaPostUserRepository dataJpaPostUserRepository;
+    private final ScoreOutboxRepository scoreOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 평가하기 했을 때 저장되는 경우
+    // 대상 유저는 IN 쿼리 한번, 템플릿은 TemplateRegistry에서 가져와서 점수 변화량을 유저별로 모은 뒤
+    // UPDATE ... score = score + ? 배치 한번으로 반영한다
+    // User는 equals/hashCode가 연관관계까지 보므로 Map 키는 userId로 쓴다
     @Transactional
     public List<UpdateUsersManner> saveValidate(Long postId, Long fromUserId, ValidateRequest validateRequest) {
         if (!checkUserList(postId, validateRequest)) {
@@ -45,55 +60,80 @@ public class ValidateService {
         Post post = dataJpaPostRepository.findById(postId).orElseThrow(() -> new ObjectNotFound("아이디에 해당하는 포스트가 없음"));
         User fromUser = dataJpaUserRepository.findById(fromUserId).orElseThrow(() -> new ObjectNotFound("아이디에 해당하는 작성자가 없음"));
 
-        for (UserValidate userValidate: validateRequest.getUserValidate()) {
-            if (!fromUserId.equals(userValidate.getUserId())) {
-                User toUser = dataJpaUserRepository.findById(userValidate.getUserId()).orElseThrow(() -> new ObjectNotFound("아이디에 해당하는 유저 없음"));
-                Template template = templateRepository.findTemplateByContent(userValidate.getTemplateName()).orElseThrow(() -> new ObjectNotFound("내용과 일치하는 템플릿 없음"));
-                validateRepository.save(Validate.builder()
-                        .post(post)
-                        .fromUser(fromUser)
-                .toUser(toUser)
-                .template(template)
-                .build());
-            }
+        List<UserValidate> userValidates = validateRequest.getUserValidate().stream()
+                .filter(userValidate -> !fromUserId.equals(userValidate.getUserId()))
+                .toList();
+        Map<Long, User> toUsers = findUsers(userValidates.stream().map(UserValidate::getUserId).toList(),
+                userId -> new ObjectNotFound("아이디에 해당하는 유저 없음"));
+        Map<String, TemplateEntry> templates = findTemplates(userValidates.stream().map(UserValidate::getTemplateName).toList(),
+                content -> new ObjectNotFound("내용과 일치하는 템플릿 없음"));
+
+        List<Validate> validates = new ArrayList<>();
+        Map<Long, Integer> scoreDeltas = new LinkedHashMap<>();
+        for (UserValidate userValidate : userValidates) {
+            User toUser = toUsers.get(userValidate.getUserId());
+            TemplateEntry template = templates.get(userValidate.getTemplateName());
+            validates.add(Validate.builder()
+                    .post(post)
+                    .fromUser(fromUser)
+                    .toUser(toUser)
+                    .template(templateRepository.getReferenceById(template.getTemplateId()))
+                    .build());
+            scoreDeltas.merge(toUser.getUserId(), template.getScore(), Integer::sum);
         }
-        return calculateManner(postId, validateRequest);
+        validateRepository.saveAll(validates);
+
+        dataJpaUserRepository.addScores(scoreDeltas);
+        Map<Long, Integer> scores = dataJpaUserRepository.findScoresByUserIds(scoreDeltas.keySet());
+
+        List<UpdateUsersManner> updateUsersManner = new ArrayList<>();
+        scoreDeltas.keySet().forEach(userId ->
+                updateUsersManner.add(new UpdateUsersManner(toUsers.get(userId).getNickname(), scores.get(userId))));
+        increaseTemplateCounts(validates);
+        publishProfileChanged(scoreDeltas.keySet().stream().map(toUsers::get).toList());
+        return updateUsersManner;
     }
 
     private Boolean checkUserList(Long postId, ValidateRequest validateRequest) {
-        List<PostUser> postUsers = dataJpaPostUserRepository.findAllByPost_PostId(postId);
+        long participantCount = dataJpaPostUserRepository.countByPost_PostId(postId);
         List<UserValidate> userValidates = validateRequest.getUserValidate();
 
-        if (postUsers.size() -1 == userValidates.size()) {
-            return true;
-        }
-
-        return false;
+        return participantCount - 1 == userValidates.size();
     }
 
-    private List<UpdateUsersManner> calculateManner(Long postId, ValidateRequest validateRequest) {
+    private Map<Long, User> findUsers(List<Long> userIds, Function<Long, ObjectNotFound> notFound) {
+        Map<Long, User> users = dataJpaUserRepository.findAllById(new HashSet<>(userIds)).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        for (Long userId : userIds) {
+            if (!users.containsKey(userId)) {
+                throw notFound.apply(userId);
+            }
+        }
+        return users;
+    }
 
-        List<UpdateUsersManner> updateUsersManner = new ArrayList<>();
-        List<PostUser> postUsers = dataJpaPostUserRepository.findAllByPost_PostId(postId);
-        List<User> users = new ArrayList<>();
-        for (PostUser postUser : postUsers) {
-            users.add(postUser.getUser());
+    //템플릿은 TemplateRegistry 스냅샷에서 찾는다 (db 조회 없음)
+    private Map<String, TemplateEntry> findTemplates(List<String> contents, Function<String, ObjectNotFound> notFound) {
+        Map<String, TemplateEntry> templates = new HashMap<>();
+        for (String content : contents) {
+            TemplateEntry template = templateRegistry.findByContent(content)
+                    .orElseThrow(() -> notFound.apply(content));
+            templates.put(content, template);
         }
+        return templates;
+    }
 
-        List<UserValidate> userValidates = validateRequest.getUserValidate();
+    //유저별 템플릿 집계 올리기, validate 변경이 한번에 flush 되도록 엔티티 변경이 끝난 뒤에 호출
+    private void increaseTemplateCounts(List<Validate> validates) {
+        for (Validate validate : validates) {
+            userTemplateCountRepository.increase(validate.getToUser().getUserId(), validate.getTemplate().getTemplateId());
+        }
+    }
 
+    private void publishProfileChanged(Collection<User> users) {
         for (User user : users) {
-            for (UserValidate userValidate : userValidates) {
-                if (user.getNickname().equals(dataJpaUserRepository.findByUserId(userValidate.getUserId()).getNickname())) {
-                    int score = templateRepository.findTemplateByContent(userValidate.getTemplateName()).orElseThrow(() -> new ObjectNotFound("컨텐츠에 해당하는 유저 없음")).getScore();
-                    user.calMannerScore(score);
-                    updateUsersManner.add(new UpdateUsersManner(user.getNickname(), user.getScore()));
-                }
-            }
-
+            eventPublisher.publishEvent(new ProfileChangedEvent(user.getLoginId()));
         }
-
-        return updateUsersManner;
     }
 
 
@@ -126,6 +166,7 @@ public class ValidateService {
 
 
     // 포스트 아이디를 받아서 포함된 멈버를 다 가져오고, 템플릿도 모두 받아와서 보내준다
+    @Transactional(readOnly = true)
     public MembersAndTemplates getParticipateMember(Long postId) {
 
 
@@ -138,10 +179,7 @@ public class ValidateService {
                 .map(p -> new UserIdAndNickName(p.getUser().getUserId().toString(), p.getUser().getName()))
                 .toList();
 
-        List<String> templateNames = templateRepository.findAll().stream()
-                .filter(Objects::nonNull)
-                .map(Template::getContent)
-                .toList();
+        List<String> templateNames = templateRegistry.getContents();
 
         return MembersAndTemplates.builder().writer(writer.getNickname()).userInform(userIdAndNicknames).templateNames(templateNames).build();
 
@@ -160,25 +198,35 @@ public class ValidateService {
 //    }
 
     //유저 평가를 받아서 저장하기
-    public int validateUser(Post post, User fromUser, List<UserValidationRequest> userValidates) {
+    //대상 유저, 평가 행은 IN 쿼리로 가져오고 템플릿은 TemplateRegistry에서 찾는다
+    //매너 점수는 여기서 바꾸지 않고 score_outbox에 쌓아두면 ScoreOutboxScheduler가 반영한다
+    public ValidateReceiptResponse validateUser(Post post, User fromUser, List<UserValidationRequest> userValidates) {
 
         log.info("user validates={}", userValidates);
 
-        for (UserValidationRequest userValidate : userValidates) {
+        //toUser 찾기
+        Map<Long, User> toUsers = findUsers(userValidates.stream().map(UserValidationRequest::getUserId).toList(),
+                userId -> new ObjectNotFound("user:" + userId + "를 찾지 못했습니다"));
 
-            //toUser 찾기
-            User toUser = dataJpaUserRepository.findById(userValidate.getUserId())
-                    .orElseThrow(() -> new ObjectNotFound("user:" + userValidate.getUserId() + "를 찾지 못했습니다"));
+        //평가 찾기
+        Map<Long, Validate> validates = validateRepository.findAllByPostAndFromUserAndToUser_UserIdIn(post, fromUser, toUsers.keySet()).stream()
+                .collect(Collectors.toMap(validate -> validate.getToUser().getUserId(), Function.identity(), (first, second) -> first));
 
-            //평가 찾기
-            Validate validate = validateRepository.findByPostAndAndFromUserAndToUser(post, fromUser, toUser)
-                    .orElseThrow(() -> new ObjectNotFound("validate 못 찾음 postId:" + post.getPostId()
-                            + "from:" + fromUser.getUserId() + "to:" + toUser.getUserId()));
+        //template찾기
+        Map<String, TemplateEntry> templates = findTemplates(userValidates.stream().map(UserValidationRequest::getTemplateContent).toList(),
+                content -> new ObjectNotFound("받은 template content:" + content + "를 못 찾았습니다."));
 
-            //template찾기
-            Template template = templateRepository.findTemplateByContent(userValidate.getTemplateContent())
-                    .orElseThrow(
-                            () -> new ObjectNotFound("받은 template content:" + userValidate.getTemplateContent() +"를 못 찾았습니다."));
+        String receiptId = UUID.randomUUID().toString();
+        List<Validate> updatedValidates = new ArrayList<>();
+        List<ScoreOutbox> outboxes = new ArrayList<>();
+        for (UserValidationRequest userValidate : userValidates) {
+            User toUser = toUsers.get(userValidate.getUserId());
+            Validate validate = validates.get(toUser.getUserId());
+            if (validate == null) {
+                throw new ObjectNotFound("validate 못 찾음 postId:" + post.getPostId()
+                        + "from:" + fromUser.getUserId() + "to:" + toUser.getUserId());
+            }
+            TemplateEntry template = templates.get(userValidate.getTemplateContent());
 
             log.info("template={}", template.getContent());
 
@@ -187,12 +235,35 @@ public class ValidateService {
                 log.info("validate id :{}은 이미 평가되었습니다",validate.getValidateId());
                 throw new AlreadyValidated("validate id :" + validate.getValidateId() +"은 이미 평가되었습니다");
             }
-            validate.setTemplate(template);
+            validate.setTemplate(templateRepository.getReferenceById(template.getTemplateId()));
+            updatedValidates.add(validate);
+
+            outboxes.add(ScoreOutbox.builder()
+                    .receiptId(receiptId)
+                    .postId(post.getPostId())
+                    .fromUserId(fromUser.getUserId())
+                    .toUserId(toUser.getUserId())
+                    .delta(template.getScore())
+                    .build());
+        }
+
+        //평가 받는 유저의 점수 변화량 쌓아두기
+        scoreOutboxRepository.saveAll(outboxes);
+        increaseTemplateCounts(updatedValidates);
+        publishProfileChanged(toUsers.values());
+        return new ValidateReceiptResponse(receiptId, outboxes.size(), 0, ScoreOutboxStatus.PENDING);
+    }
 
-            //평가 받는 유저의 점수 업데이트
-            toUser.setScore(toUser.getScore() + template.getScore());
+    //평가 접수 후 점수가 반영됐는지 확인
+    @Transactional(readOnly = true)
+    public ValidateReceiptResponse getValidateReceipt(String receiptId) {
+        long total = scoreOutboxRepository.countByReceiptId(receiptId);
+        if (total == 0) {
+            throw new ObjectNotFound("receipt:" + receiptId + "를 찾지 못했습니다");
         }
-        return userValidates.size();
+        long applied = scoreOutboxRepository.countByReceiptIdAndStatus(receiptId, ScoreOutboxStatus.APPLIED);
+        ScoreOutboxStatus status = applied == total ? ScoreOutboxStatus.APPLIED : ScoreOutboxStatus.PENDING;
+        return new ValidateReceiptResponse(receiptId, total, applied, status);
     }
 
 }
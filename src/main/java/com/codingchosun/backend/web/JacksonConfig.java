@@ -0,0 +1,19 @@
+package com.codingchosun.backend.web;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+    목록 응답 dto의 getter 호출을 리플렉션 대신 미리 만든 람다로 바꿔서 직렬화 비용을 줄인다
+    Module 빈은 스프링이 기본 ObjectMapper에 등록하므로 snake_case 설정은 그대로 유지된다
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
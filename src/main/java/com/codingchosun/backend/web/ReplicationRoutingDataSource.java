@@ -0,0 +1,20 @@
+package com.codingchosun.backend.web;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+*   readOnly 트랜잭션이면 replica, 나머지(쓰기 트랜잭션, 트랜잭션 밖)는 primary로 보낸다
+*   트랜잭션 시작 시점에 커넥션을 잡으면 readOnly 여부를 아직 모르므로
+*   반드시 LazyConnectionDataSourceProxy로 감싸서 첫 쿼리때 고르게 할 것
+*/
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -1,10 +1,14 @@
 package com.codingchosun.backend.web;
 
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -16,11 +20,15 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
 @EnableWebSecurity
 @EnableMethodSecurity
 @Configuration
@@ -33,6 +41,9 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(authorize ->
                         authorize
+                                //health 외의 actuator(metrics 등)는 같은 서버(loopback)에서만, management.server 설정 참고
+                                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                                .requestMatchers(EndpointRequest.toAnyEndpoint()).access(loopbackOnly())
                                 .requestMatchers("/**").permitAll()
                 );
 
@@ -90,6 +101,16 @@ public class SecurityConfig {
         return authenticationConfiguration.getAuthenticationManager();
     }
 
+    private AuthorizationManager<RequestAuthorizationContext> loopbackOnly() {
+        return (authentication, context) -> {
+            try {
+                return new AuthorizationDecision(InetAddress.getByName(context.getRequest().getRemoteAddr()).isLoopbackAddress());
+            } catch (UnknownHostException e) {
+                return new AuthorizationDecision(false);
+            }
+        };
+    }
+
     private AuthenticationSuccessHandler authenticationSuccessHandler() {
         return (request, response, authentication) -> response.setStatus(HttpServletResponse.SC_OK);
     }
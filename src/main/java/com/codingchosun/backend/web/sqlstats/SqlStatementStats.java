@@ -0,0 +1,64 @@
+package com.codingchosun.backend.web.sqlstats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/*
+*   요청 하나 동안 실행된 sql 개수와 jdbc 시간을 스레드별로 모은다
+*   SqlStatsFilter가 start/stop 하고, 요청 밖(스케줄러 등)에서 나간 sql은 세지 않는다
+*   batch는 executeBatch 한번을 1회로 센다 (db 왕복 기준)
+*/
+public class SqlStatementStats implements QueryExecutionListener {
+
+    private static final ThreadLocal<Counter> CURRENT = new ThreadLocal<>();
+    private static final String STARTED_AT = "sqlStats.startedAt";
+
+    public static void start() {
+        CURRENT.set(new Counter());
+    }
+
+    public static Snapshot stop() {
+        Counter counter = CURRENT.get();
+        CURRENT.remove();
+        return counter == null ? new Snapshot(0, 0) : new Snapshot(counter.statements, counter.nanos);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (CURRENT.get() != null) {
+            execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Counter counter = CURRENT.get();
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        if (counter == null || startedAt == null) {
+            return;
+        }
+        counter.statements++;
+        counter.nanos += System.nanoTime() - startedAt;
+    }
+
+    private static class Counter {
+        private int statements;
+        private long nanos;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final int statements;
+        private final long nanos;
+
+        public long getMillis() {
+            return nanos / 1_000_000;
+        }
+    }
+}
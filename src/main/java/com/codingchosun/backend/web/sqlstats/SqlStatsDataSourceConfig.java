@@ -0,0 +1,34 @@
+package com.codingchosun.backend.web.sqlstats;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/*
+*   앱이 쓰는 dataSource 빈을 datasource-proxy로 감싸서 SqlStatementStats가 sql을 세게 한다
+*   replica 설정이 있으면 라우팅 DataSource 바깥을 감싸므로 primary, replica 모두 같이 센다
+*/
+@Configuration
+public class SqlStatsDataSourceConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && DATA_SOURCE_BEAN.equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(DATA_SOURCE_BEAN)
+                            .listener(new SqlStatementStats())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
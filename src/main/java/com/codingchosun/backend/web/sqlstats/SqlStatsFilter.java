@@ -0,0 +1,95 @@
+package com.codingchosun.backend.web.sqlstats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/*
+*   요청마다 sql 개수, jdbc 시간을 micrometer로 남기고 느린 요청은 로그로 남긴다
+*   sql.stats.response-header=true 면 응답 헤더로도 보낸다 (로컬 개발, 테스트용)
+*   헤더는 응답을 다 만든 뒤에 넣어야 해서 본문을 버퍼링하므로 운영에서는 끈다, SSE 요청은 제외
+*/
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeader;
+    private final long slowRequestMillis;
+
+    public SqlStatsFilter(MeterRegistry meterRegistry,
+                          @Value("${sql.stats.response-header:false}") boolean responseHeader,
+                          @Value("${sql.stats.slow-request-ms:1000}") long slowRequestMillis) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeader = responseHeader;
+        this.slowRequestMillis = slowRequestMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = responseHeader && !isEventStream(request)
+                ? new ContentCachingResponseWrapper(response) : null;
+
+        SqlStatementStats.start();
+        long startedAt = System.nanoTime();
+        try {
+            filterChain.doFilter(request, wrapper != null ? wrapper : response);
+        } finally {
+            SqlStatementStats.Snapshot stats = SqlStatementStats.stop();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            record(request, stats);
+            if (elapsedMillis >= slowRequestMillis) {
+                log.warn("slow request {} {} status={} {}ms, sql {}회 {}ms", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), elapsedMillis, stats.getStatements(), stats.getMillis());
+            }
+            if (wrapper != null) {
+                wrapper.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                wrapper.setHeader(TIME_HEADER, String.valueOf(stats.getMillis()));
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    //uri 태그는 /posts/{postId} 같은 매핑 패턴이라 개수가 늘지 않는다
+    private void record(HttpServletRequest request, SqlStatementStats.Snapshot stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("요청 하나에서 실행된 sql 개수")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("http.server.requests.sql.time")
+                .description("요청 하나에서 sql 실행에 쓴 시간")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private boolean isEventStream(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
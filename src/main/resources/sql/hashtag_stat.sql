@@ -0,0 +1,10 @@
+#hashtag_stat 도입 전 데이터로 통계 채우기 (한번만 실행, 값이 어긋났을때 다시 돌려도 됨)
+
+INSERT INTO hashtag_stat (hashtag_id, active_post_count, follower_count)
+SELECT h.hashtag_id,
+       (SELECT COUNT(*) FROM post_hash ph JOIN post p ON p.post_id = ph.post_id
+        WHERE ph.hashtag_id = h.hashtag_id AND p.state_code = 'ACTIVE'),
+       (SELECT COUNT(*) FROM user_hash uh WHERE uh.hashtag_id = h.hashtag_id)
+FROM hashtag h
+ON DUPLICATE KEY UPDATE active_post_count = VALUES(active_post_count),
+                        follower_count = VALUES(follower_count);
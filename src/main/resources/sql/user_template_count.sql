@@ -0,0 +1,9 @@
+#user_template_count 도입 전에 쌓인 평가로 집계 채우기 (한번만 실행)
+#validate 중 template이 정해진 것만 센다
+
+INSERT INTO user_template_count (user_id, template_id, count)
+SELECT v.to_user_id, v.template_id, COUNT(*)
+FROM validate v
+WHERE v.template_id IS NOT NULL
+GROUP BY v.to_user_id, v.template_id
+ON DUPLICATE KEY UPDATE count = VALUES(count);
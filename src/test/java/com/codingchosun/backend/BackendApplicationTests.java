@@ -3,7 +3,13 @@ package com.codingchosun.backend;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+//MySQL 없이 돌도록 primary, replica 모두 H2 메모리 db 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:primary;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:primary;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
 class BackendApplicationTests {
 
     @Test
@@ -0,0 +1,41 @@
+package com.codingchosun.backend.component.cache;
+
+import com.codingchosun.backend.component.event.ProfileChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentVersionsTest {
+
+    private final ContentVersions contentVersions = new ContentVersions();
+
+    @Test
+    void postChangeGivesNewEtag() {
+        String before = contentVersions.post(1L).etag("post");
+
+        contentVersions.postChanged(1L);
+
+        assertThat(contentVersions.post(1L).etag("post")).isNotEqualTo(before);
+        assertThat(contentVersions.post(1L).etag("post")).isEqualTo(contentVersions.post(1L).etag("post"));
+    }
+
+    @Test
+    void nicknameChangeGivesNewPostEtags() {
+        String before = contentVersions.post(1L).etag("post");
+
+        contentVersions.profileChanged(new ProfileChangedEvent("user", true));
+
+        assertThat(contentVersions.post(1L).etag("post")).isNotEqualTo(before);
+    }
+
+    @Test
+    void otherProfileChangesKeepPostEtags() {
+        String post = contentVersions.post(1L).etag("post");
+        String profile = contentVersions.profile("user").etag("profile");
+
+        contentVersions.profileChanged(new ProfileChangedEvent("user"));
+
+        assertThat(contentVersions.post(1L).etag("post")).isEqualTo(post);
+        assertThat(contentVersions.profile("user").etag("profile")).isNotEqualTo(profile);
+    }
+}
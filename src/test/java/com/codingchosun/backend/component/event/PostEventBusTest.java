@@ -0,0 +1,83 @@
+package com.codingchosun.backend.component.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostEventBusTest {
+
+    private static final Long POST_ID = 1L;
+
+    private final PostEventBus eventBus = new PostEventBus(Duration.ofMillis(200));
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        eventBus.shutdown();
+    }
+
+    @Test
+    void blockedSubscribersAreDroppedWithoutStallingOthers() throws InterruptedException {
+        //전송 스레드 수보다 많은 구독자가 막혀 있어도 시간 초과로 풀려서 다른 구독자에게 전송된다
+        List<BlockedEmitter> blocked = IntStream.range(0, 8).mapToObj(i -> new BlockedEmitter(release)).toList();
+        blocked.forEach(emitter -> eventBus.subscribe(POST_ID, emitter));
+        RecordingEmitter healthy = new RecordingEmitter();
+        eventBus.subscribe(POST_ID, healthy);
+
+        assertThat(healthy.sent.poll(1, TimeUnit.SECONDS)).isNotNull();    //connected
+        eventBus.publish(new PostActivityEvent(POST_ID, PostActivityType.COMMENT_CREATED, 1L, 1L));
+        assertThat(healthy.sent.poll(1, TimeUnit.SECONDS)).isNotNull();
+
+        //시간 초과된 구독자는 끊긴다
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (eventBus.getSubscriberCount(POST_ID) > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(eventBus.getSubscriberCount(POST_ID)).isEqualTo(1);
+        //구독자 수만큼 스레드를 만들지 않는다
+        assertThat(Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().matches("post-sse-\\d+"))
+                .count()).isLessThanOrEqualTo(4);
+    }
+
+    private static class BlockedEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        private BlockedEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        //응답을 읽지 않는 클라이언트, 쓰기가 끊길 때(interrupt)까지 막힌다
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException("write aborted", e);
+            }
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        public void send(Set<ResponseBodyEmitter.DataWithMediaType> items) {
+            sent.add(items);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.codingchosun.backend.component.feed;
+
+import com.codingchosun.backend.component.index.ActivePostIndex;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPostLeaderboardTest {
+
+    private final Set<Long> activePostIds = new HashSet<>(Set.of(1L, 2L, 3L));
+    private final HotPostLeaderboard leaderboard = new HotPostLeaderboard(mock(DataJpaPostRepository.class), activeIndex());
+
+    @Test
+    void totalCountsOnlyActivePosts() {
+        leaderboard.recordView(1L);
+        leaderboard.recordView(2L);
+        leaderboard.recordView(2L);
+        leaderboard.recordView(3L);
+        activePostIds.remove(3L);   //다른 인스턴스에서 INACTIVE가 된 경우
+
+        Page<Long> page = leaderboard.getPage(PageRequest.of(0, 1));
+
+        assertThat(page.getContent()).containsExactly(2L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void removedPostsLeaveTheRanking() {
+        leaderboard.recordView(1L);
+        leaderboard.recordView(2L);
+
+        leaderboard.removeAll(List.of(1L, 2L));
+
+        assertThat(leaderboard.getPage(PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    @Test
+    void inactivePostsAreNotRanked() {
+        leaderboard.recordView(4L);
+
+        assertThat(leaderboard.getPage(PageRequest.of(0, 10)).getTotalElements()).isZero();
+    }
+
+    private ActivePostIndex activeIndex() {
+        ActivePostIndex activePostIndex = mock(ActivePostIndex.class);
+        when(activePostIndex.contains(any())).thenAnswer(invocation -> activePostIds.contains(invocation.<Long>getArgument(0)));
+        return activePostIndex;
+    }
+}
@@ -0,0 +1,144 @@
+package com.codingchosun.backend.component.file;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3BlobStoreTest {
+
+    @Test
+    void smallFileIsStoredWithSinglePut() throws IOException {
+        FakeS3Client s3 = new FakeS3Client();
+        S3BlobStore blobStore = new S3BlobStore(s3, "bucket", "images/", 8);
+
+        String location = blobStore.store("a.png", new ByteArrayInputStream("hello".getBytes()), 5, "image/png");
+
+        assertThat(location).isEqualTo("s3://bucket/images/a.png");
+        assertThat(s3.objects.get("images/a.png")).isEqualTo("hello".getBytes());
+        assertThat(s3.uploadedParts).isZero();
+    }
+
+    @Test
+    void largeFileIsStreamedAsMultipartUpload() throws IOException {
+        FakeS3Client s3 = new FakeS3Client();
+        S3BlobStore blobStore = new S3BlobStore(s3, "bucket", "images/", 4);
+        byte[] data = "0123456789".getBytes();
+
+        blobStore.store("b.png", new ByteArrayInputStream(data), data.length, "image/png");
+
+        assertThat(s3.objects.get("images/b.png")).isEqualTo(data);
+        assertThat(s3.uploadedParts).isEqualTo(3);
+    }
+
+    @Test
+    void failedMultipartUploadIsAborted() {
+        FakeS3Client s3 = new FakeS3Client();
+        S3BlobStore blobStore = new S3BlobStore(s3, "bucket", "images/", 4);
+        InputStream broken = new InputStream() {
+            private int count = 0;
+
+            @Override
+            public int read() throws IOException {
+                if (count++ > 5) {
+                    throw new IOException("연결 끊김");
+                }
+                return 'x';
+            }
+        };
+
+        assertThatThrownBy(() -> blobStore.store("c.png", broken, -1, "image/png"))
+                .isInstanceOf(IOException.class);
+        assertThat(s3.aborted).isTrue();
+        assertThat(s3.objects).doesNotContainKey("images/c.png");
+    }
+
+    @Test
+    void deleteRemovesStoredObject() throws IOException {
+        FakeS3Client s3 = new FakeS3Client();
+        S3BlobStore blobStore = new S3BlobStore(s3, "bucket", "images/", 8);
+        String location = blobStore.store("d.png", new ByteArrayInputStream("x".getBytes()), 1, "image/png");
+
+        blobStore.delete(location);
+
+        assertThat(s3.objects).isEmpty();
+    }
+
+    //MinIO 없이 돌리기 위한 메모리 S3
+    static class FakeS3Client implements S3Client {
+        final Map<String, byte[]> objects = new HashMap<>();
+        final Map<String, TreeMap<Integer, byte[]>> uploads = new HashMap<>();
+        int uploadedParts = 0;
+        boolean aborted = false;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody requestBody) {
+            objects.put(request.key(), readAll(requestBody));
+            return PutObjectResponse.builder().eTag("etag").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + uploads.size();
+            uploads.put(uploadId, new TreeMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody requestBody) {
+            uploads.get(request.uploadId()).put(request.partNumber(), readAll(requestBody));
+            uploadedParts++;
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            uploads.remove(request.uploadId()).values().forEach(out::writeBytes);
+            objects.put(request.key(), out.toByteArray());
+            return CompleteMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            uploads.remove(request.uploadId());
+            aborted = true;
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] readAll(RequestBody requestBody) {
+            try (InputStream in = requestBody.contentStreamProvider().newStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
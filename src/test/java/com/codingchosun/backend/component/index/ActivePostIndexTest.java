@@ -0,0 +1,76 @@
+package com.codingchosun.backend.component.index;
+
+import com.codingchosun.backend.component.event.PostActivityEvent;
+import com.codingchosun.backend.component.event.PostActivityType;
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import com.codingchosun.backend.constants.StateCode;
+import com.codingchosun.backend.repository.hashtagrepository.DataJpaPostHashRepository;
+import com.codingchosun.backend.repository.postrepository.ActivePostSummary;
+import com.codingchosun.backend.repository.postrepository.DataJpaPostRepository;
+import com.codingchosun.backend.repository.postuserrepository.DataJpaPostUserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActivePostIndexTest {
+
+    private static final Long POST_ID = 1L;
+
+    private final DataJpaPostRepository postRepository = mock(DataJpaPostRepository.class);
+    private final DataJpaPostHashRepository postHashRepository = mock(DataJpaPostHashRepository.class);
+    private final DataJpaPostUserRepository postUserRepository = mock(DataJpaPostUserRepository.class);
+    private final AtomicLong participants = new AtomicLong(1);
+    private final ActivePostIndex index = new ActivePostIndex(postRepository, postHashRepository, postUserRepository, primaryReader());
+
+    @Test
+    void joinDuringReloadIsNotCountedTwice() {
+        when(postUserRepository.countByPost_PostId(POST_ID)).thenAnswer(invocation -> participants.get());
+        //db를 읽는 사이에 참가가 커밋되고 이벤트가 들어온 경우, 읽은 값에는 이미 포함돼 있다
+        when(postRepository.findSummariesByStateCode(StateCode.ACTIVE)).thenAnswer(invocation -> {
+            participants.incrementAndGet();
+            index.updateParticipantCount(new PostActivityEvent(POST_ID, PostActivityType.PARTICIPANT_JOINED, 2L, POST_ID));
+            return List.of(summary((int) participants.get()));
+        });
+
+        index.reload();
+
+        assertThat(index.get(POST_ID)).hasValueSatisfying(post -> assertThat(post.getParticipantCount()).isEqualTo(2));
+    }
+
+    @Test
+    void joinAfterReloadUpdatesCount() {
+        when(postUserRepository.countByPost_PostId(POST_ID)).thenAnswer(invocation -> participants.get());
+        List<ActivePostSummary> summaries = List.of(summary(1));
+        when(postRepository.findSummariesByStateCode(StateCode.ACTIVE)).thenReturn(summaries);
+        index.reload();
+
+        participants.set(3);
+        index.updateParticipantCount(new PostActivityEvent(POST_ID, PostActivityType.PARTICIPANT_JOINED, 2L, POST_ID));
+
+        assertThat(index.get(POST_ID)).hasValueSatisfying(post -> assertThat(post.getParticipantCount()).isEqualTo(3));
+    }
+
+    private static ActivePostSummary summary(int participantCount) {
+        ActivePostSummary summary = mock(ActivePostSummary.class);
+        when(summary.getPostId()).thenReturn(POST_ID);
+        when(summary.getCreatedAt()).thenReturn(LocalDateTime.now());
+        when(summary.getAuthorId()).thenReturn(1L);
+        when(summary.getAuthorScore()).thenReturn(0);
+        when(summary.getParticipantCount()).thenReturn(participantCount);
+        return summary;
+    }
+
+    private static PrimaryReader primaryReader() {
+        PrimaryReader primaryReader = mock(PrimaryReader.class);
+        when(primaryReader.read(any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        return primaryReader;
+    }
+}
@@ -0,0 +1,77 @@
+package com.codingchosun.backend.component.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GeoHashTest {
+
+    @Test
+    void encode() {
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+        assertThat(GeoHash.encode(0, 0, 5)).isEqualTo("s0000");
+        assertThat(GeoHash.encode(-90, -180, 3)).isEqualTo("000");
+        assertThat(GeoHash.encode(90, 180, 3)).isEqualTo("zzz");
+        //앞부분이 같으면 같은 칸
+        assertThat(GeoHash.encode(37.5665, 126.9780, 12)).startsWith(GeoHash.encode(37.5665, 126.9780, 6));
+    }
+
+    @Test
+    void neighboursWrapAroundAntimeridian() {
+        int precision = 5;
+
+        Set<String> east = GeoHash.neighbours(0, 179.99, precision);
+        Set<String> west = GeoHash.neighbours(0, -179.99, precision);
+
+        assertThat(east).hasSize(9).contains(GeoHash.encode(0, -179.99, precision));
+        assertThat(west).hasSize(9).contains(GeoHash.encode(0, 179.99, precision));
+    }
+
+    @Test
+    void neighboursCollapseAtPoles() {
+        int precision = 5;
+
+        Set<String> north = GeoHash.neighbours(89.99, 0, precision);
+        Set<String> south = GeoHash.neighbours(-89.99, 0, precision);
+
+        //극 쪽 칸은 범위 밖이라 가운데 줄과 겹친다
+        assertThat(north).hasSize(6).contains(GeoHash.encode(89.99, 0, precision));
+        assertThat(south).hasSize(6).contains(GeoHash.encode(-89.99, 0, precision));
+        assertThat(north).allSatisfy(cell -> assertThat(cell).hasSize(precision));
+    }
+
+    @Test
+    void precisionForCoversRadius() {
+        double latitude = 37.5;
+        double radiusKm = 1;
+
+        int precision = GeoHash.precisionFor(latitude, radiusKm);
+
+        double latDegrees = radiusKm / 111.32;
+        double lngDegrees = radiusKm / (111.32 * Math.cos(Math.toRadians(latitude)));
+        assertThat(GeoHash.cellHeight(precision)).isGreaterThanOrEqualTo(latDegrees);
+        assertThat(GeoHash.cellWidth(precision)).isGreaterThanOrEqualTo(lngDegrees);
+        //한자리 더 길면 반경을 덮지 못한다
+        assertThat(GeoHash.cellHeight(precision + 1) < latDegrees || GeoHash.cellWidth(precision + 1) < lngDegrees).isTrue();
+    }
+
+    @Test
+    void precisionForHugeRadiusIsZero() {
+        assertThat(GeoHash.precisionFor(0, 20_000)).isZero();
+        //극 근처는 경도 폭이 좁아져서 더 짧은 precision
+        assertThat(GeoHash.precisionFor(89, 10)).isLessThan(GeoHash.precisionFor(0, 10));
+    }
+
+    @Test
+    void distanceKm() {
+        assertThat(GeoHash.distanceKm(37.5665, 126.9780, 37.5665, 126.9780)).isZero();
+        //서울 - 부산
+        assertThat(GeoHash.distanceKm(37.5665, 126.9780, 35.1796, 129.0756)).isCloseTo(325, within(5.0));
+        //적도에서 경도 1도, ±180을 넘어가도 같은 거리
+        assertThat(GeoHash.distanceKm(0, 179.5, 0, -179.5)).isCloseTo(111.19, within(0.1));
+        assertThat(GeoHash.distanceKm(0, 0, 0, 1)).isCloseTo(111.19, within(0.1));
+    }
+}
@@ -0,0 +1,103 @@
+package com.codingchosun.backend.service;
+
+import com.codingchosun.backend.component.cache.ContentVersions;
+import com.codingchosun.backend.component.file.BlobStore;
+import com.codingchosun.backend.domain.Post;
+import com.codingchosun.backend.repository.imagerepository.DataJpaImageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ImageServiceTest {
+
+    private final RecordingBlobStore blobStore = new RecordingBlobStore();
+    private final ImageService imageService =
+            new ImageService(mock(DataJpaImageRepository.class), blobStore, mock(ContentVersions.class));
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void storedBlobsAreDeletedWhenLaterStoreFails() {
+        blobStore.failAt = 2;
+
+        assertThatThrownBy(() -> imageService.uploadImages(List.of(file("a"), file("b")), new Post()))
+                .hasCauseInstanceOf(IOException.class);
+
+        assertThat(blobStore.deleted).containsExactly("a");
+    }
+
+    @Test
+    void storedBlobsAreDeletedOnRollbackOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        imageService.uploadImages(List.of(file("a"), file("b")), new Post());
+        assertThat(blobStore.deleted).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(blobStore.deleted).containsExactly("a", "b");
+    }
+
+    @Test
+    void storedBlobsAreKeptOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        imageService.uploadImages(List.of(file("a")), new Post());
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(blobStore.deleted).isEmpty();
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+
+    private static MultipartFile file(String name) {
+        return new MockMultipartFile("images", name, "image/png", name.getBytes());
+    }
+
+    private static class RecordingBlobStore implements BlobStore {
+
+        private final List<String> deleted = new ArrayList<>();
+        private int stored;
+        private int failAt;
+
+        @Override
+        public String store(String key, InputStream inputStream, long size, String contentType) throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String storeImage(MultipartFile multipartFile) throws IOException {
+            if (++stored == failAt) {
+                throw new IOException("disk full");
+            }
+            return multipartFile.getOriginalFilename();
+        }
+
+        @Override
+        public void delete(String location) {
+            deleted.add(location);
+        }
+    }
+}
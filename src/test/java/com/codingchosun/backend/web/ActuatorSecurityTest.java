@@ -0,0 +1,48 @@
+package com.codingchosun.backend.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//management 포트를 서비스 포트와 합쳐서 SecurityConfig 규칙만 확인
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:actuator;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "management.server.port="
+})
+@AutoConfigureMockMvc
+class ActuatorSecurityTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health").with(remoteAddr("203.0.113.10")))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsAreDeniedFromOutside() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(remoteAddr("203.0.113.10")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void metricsAreAllowedFromLoopback() throws Exception {
+        mockMvc.perform(get("/actuator/metrics").with(remoteAddr("127.0.0.1")))
+                .andExpect(status().isOk());
+    }
+
+    private static org.springframework.test.web.servlet.request.RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
@@ -0,0 +1,138 @@
+package com.codingchosun.backend.web;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//OSIV가 켜진 상태에서 요청 안의 트랜잭션마다 primary, replica가 제대로 골라지는지 확인
+//primary와 replica를 다른 H2 db로 띄우고 같은 데이터를 넣은 뒤 글 제목만 다르게 둔다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routingprimary;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:routingreplica;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.replica.username=sa",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "management.server.port="
+})
+@AutoConfigureMockMvc
+class ReadRoutingMvcTest {
+
+    private static final String LOGIN_ID = "routing01";
+    private static final long POST_ID = 1L;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void seed() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        insertRows(primary, "primary-title");
+        insertRows(replica, "replica-title");
+    }
+
+    //findByLoginId는 읽기/쓰기 트랜잭션이라 primary, 그 뒤의 readOnly 피드 조회는 replica
+    @Test
+    void loginFeedIsReadFromReplica() throws Exception {
+        String body = mockMvc.perform(get("/posts/login").session(loggedIn()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body).contains("replica-title").doesNotContain("primary-title");
+    }
+
+    @Test
+    void commentIsWrittenToPrimary() throws Exception {
+        mockMvc.perform(post("/posts/{postId}/comments", POST_ID)
+                        .session(loggedIn())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"contents\":\"routing-comment\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM comment WHERE content = 'routing-comment'", Integer.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM comment WHERE content = 'routing-comment'", Integer.class)).isZero();
+    }
+
+    //두 db에 같은 user, post를 넣고 제목으로 어느 db에서 읽었는지 구분한다
+    private static void insertRows(JdbcTemplate jdbcTemplate, String title) {
+        jdbcTemplate.update("DELETE FROM comment");
+        jdbcTemplate.update("DELETE FROM post");
+        jdbcTemplate.update("DELETE FROM user");
+        jdbcTemplate.update("INSERT INTO user (user_id, login_id, password, name, email, birth, nickname, state, score, gender_code) " +
+                "VALUES (1, ?, 'password', 'routing', 'routing@test.com', DATE '2000-01-01', 'routing', 'ACTIVE', 0, 'NONE')", LOGIN_ID);
+        jdbcTemplate.update("INSERT INTO post (post_id, title, content, created_at, state_code, view_count, user_id) " +
+                "VALUES (?, ?, 'content', CURRENT_TIMESTAMP, 'ACTIVE', 0, 1)", POST_ID, title);
+    }
+
+    //SecurityContext를 세션에 넣어두면 @AuthenticationPrincipal로 꺼내진다
+    private MockHttpSession loggedIn() {
+        UserDetails userDetails = User.withUsername(LOGIN_ID).password("password").roles("USER").build();
+        SecurityContextImpl securityContext = new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(userDetails, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
+        return session;
+    }
+
+    //시작할 때 읽는 컴포넌트(ApplicationReadyEvent)도 replica로 가므로 그 전에 primary의 스키마를 replica에 복사한다
+    @TestConfiguration
+    static class ReplicaSchemaConfig {
+
+        @Bean
+        SmartInitializingSingleton replicaSchema(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                 EntityManagerFactory entityManagerFactory) {
+            return () -> {
+                try {
+                    File script = File.createTempFile("routing", ".sql");
+                    try {
+                        new JdbcTemplate(primaryDataSource).execute("SCRIPT NODATA TO '" + script.getAbsolutePath() + "'");
+                        new JdbcTemplate(replicaDataSource).execute("RUNSCRIPT FROM '" + script.getAbsolutePath() + "'");
+                    } finally {
+                        Files.deleteIfExists(script.toPath());
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.codingchosun.backend.web;
+
+import com.codingchosun.backend.component.transaction.PrimaryReader;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+//primary, replica를 각각 다른 H2 메모리 db로 띄워서 어느 쪽으로 쿼리가 가는지 확인
+class ReplicationDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(DataSourceAutoConfiguration.class,
+                    DataSourceTransactionManagerAutoConfiguration.class,
+                    JdbcTemplateAutoConfiguration.class,
+                    TransactionAutoConfiguration.class))
+            .withUserConfiguration(ReplicationDataSourceConfig.class);
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.url=jdbc:h2:mem:primary;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    seed(context, "primaryDataSource", "primary");
+                    seed(context, "replicaDataSource", "replica");
+
+                    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                    TransactionTemplate transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+                    transactionTemplate.setReadOnly(true);
+                    String readOnlyDb = transactionTemplate.execute(status -> whichDb(jdbcTemplate));
+                    assertThat(readOnlyDb).isEqualTo("replica");
+
+                    transactionTemplate.setReadOnly(false);
+                    String readWriteDb = transactionTemplate.execute(status -> whichDb(jdbcTemplate));
+                    assertThat(readWriteDb).isEqualTo("primary");
+
+                    //트랜잭션 밖은 primary
+                    assertThat(whichDb(jdbcTemplate)).isEqualTo("primary");
+                });
+    }
+
+    //캐시를 채우는 읽기(PrimaryReader)는 readOnly 트랜잭션 안에서도 primary로 가고, 바깥 트랜잭션은 계속 replica
+    @Test
+    void cacheFillingReadsGoToPrimary() {
+        contextRunner
+                .withPropertyValues(
+                        "spring.datasource.url=jdbc:h2:mem:primary2;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:replica2;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    seed(context, "primaryDataSource", "primary");
+                    seed(context, "replicaDataSource", "replica");
+
+                    JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+                    PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+                    PrimaryReader primaryReader = new PrimaryReader(transactionManager);
+                    TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+                    readOnly.setReadOnly(true);
+
+                    List<String> dbs = readOnly.execute(status -> List.of(
+                            whichDb(jdbcTemplate),
+                            primaryReader.read(() -> whichDb(jdbcTemplate)),
+                            whichDb(jdbcTemplate)));
+                    assertThat(dbs).containsExactly("replica", "primary", "replica");
+
+                    //트랜잭션 밖
+                    assertThat(primaryReader.read(() -> whichDb(jdbcTemplate))).isEqualTo("primary");
+                });
+    }
+
+    @Test
+    void withoutReplicaUrlSingleDataSourceIsUsed() {
+        contextRunner
+                .withPropertyValues("spring.datasource.url=jdbc:h2:mem:single;DB_CLOSE_DELAY=-1")
+                .run(context -> {
+                    assertThat(context).doesNotHaveBean("replicaDataSource");
+                    assertThat(context.getBean(DataSource.class)).isNotInstanceOf(LazyConnectionDataSourceProxy.class);
+                });
+    }
+
+    private void seed(ApplicationContext context, String dataSourceName, String name) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(context.getBean(dataSourceName, DataSource.class));
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO marker (name) VALUES (?)", name);
+    }
+
+    private String whichDb(JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.codingchosun.backend.web.sqlstats;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+//엔드포인트별 sql 개수 상한, N+1이 생기면 여기서 깨진다
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sqlstats;MODE=MySQL;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "sql.stats.response-header=true"
+})
+@AutoConfigureMockMvc
+class SqlStatementCountTest {
+
+    private static final int POST_SIZE = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO user (user_id, login_id, password, name, email, birth, nickname, gender_code, state, score) " +
+                "VALUES (1, 'sqlstats', 'pw', '이름', 'sqlstats@codingchosun.com', DATE '2000-01-01', '닉네임', 'NONE', 'ACTIVE', 50)");
+        jdbcTemplate.update("INSERT INTO hashtag (hashtag_id, hashtag_name) VALUES (1, '#태그')");
+        for (long postId = 1; postId <= POST_SIZE; postId++) {
+            jdbcTemplate.update("INSERT INTO post (post_id, title, content, created_at, start_time, end_time, state_code, view_count, user_id) " +
+                    "VALUES (?, '제목', '본문', NOW(), DATEADD('DAY', 1, NOW()), DATEADD('DAY', 2, NOW()), 'ACTIVE', 0, 1)", postId);
+            jdbcTemplate.update("INSERT INTO post_hash (id, post_id, hashtag_id) VALUES (?, ?, 1)", postId, postId);
+            jdbcTemplate.update("INSERT INTO image (image_id, post_id, name, url) VALUES (?, ?, 'none', ?)",
+                    postId, postId, "/images/" + postId + ".png");
+            jdbcTemplate.update("INSERT INTO comment (comment_id, content, created_at, post_id, user_id) VALUES (?, '댓글', NOW(), ?, 1)",
+                    postId, postId);
+        }
+    }
+
+    @Test
+    void noLoginFeed() throws Exception {
+        //랜덤 해시태그 + 목록 (+ count) + 글마다 대표 이미지(findFirstByPost)
+        assertThat(statements("/posts?page=1&size=10")).isLessThanOrEqualTo(3 + POST_SIZE);
+    }
+
+    @Test
+    void postDetail() throws Exception {
+        //post, 작성자, 해시태그, 최신 댓글, 이미지, 조회수 update (2차 캐시가 차 있으면 더 적다)
+        assertThat(statements("/posts/1")).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    void profile() throws Exception {
+        //유저 + 해시태그 fetch join, 자주 받은 템플릿
+        assertThat(statements("/profile/sqlstats")).isLessThanOrEqualTo(2);
+    }
+
+    private int statements(String url) throws Exception {
+        MvcResult result = mockMvc.perform(get(url)).andReturn();
+        String header = result.getResponse().getHeader(SqlStatsFilter.STATEMENTS_HEADER);
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        assertThat(header).isNotNull();
+        return Integer.parseInt(header);
+    }
+}